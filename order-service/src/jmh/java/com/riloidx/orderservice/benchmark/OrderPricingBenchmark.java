@@ -0,0 +1,49 @@
+package com.riloidx.orderservice.benchmark;
+
+import com.riloidx.orderservice.util.OrderPricing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderPricingBenchmark {
+
+    @Param({"1", "10", "500"})
+    private int lines;
+
+    private BigDecimal[] unitPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        unitPrices = new BigDecimal[lines];
+        quantities = new int[lines];
+
+        for (int i = 0; i < lines; i++) {
+            unitPrices[i] = BigDecimal.valueOf(random.nextLong(1, 1_000_000), OrderPricing.SCALE);
+            quantities[i] = random.nextInt(1, 50);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return OrderPricing.totalExact(unitPrices, quantities, lines);
+    }
+
+    @Benchmark
+    public BigDecimal minorUnits() {
+        return OrderPricing.total(unitPrices, quantities, lines);
+    }
+}
@@ -0,0 +1,13 @@
+package com.riloidx.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "order.catalog")
+public record CatalogProperties(
+        List<BigDecimal> priceBands,
+        Duration refreshInterval
+) {}
@@ -0,0 +1,8 @@
+package com.riloidx.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.export")
+public record OrderExportProperties(
+        int chunkSize
+) {}
@@ -0,0 +1,55 @@
+package com.riloidx.orderservice.config;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventSerializer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+@Configuration
+public class PaymentEventsKafkaConfig {
+
+    public static final String PAYMENT_EVENTS_TOPIC = "payment-events";
+    public static final String FAILED_TOPIC = "payment-events-failed";
+    public static final String DLT_TOPIC = FAILED_TOPIC + "-dlt";
+
+    private static final FixedBackOff NO_RETRIES = new FixedBackOff(0L, 0L);
+
+    @Bean
+    public KafkaTemplate<String, Object> paymentEventsKafkaTemplate(KafkaProperties kafkaProperties) {
+        Serializer<Object> valueSerializer = new DelegatingByTypeSerializer(Map.<Class<?>, Serializer<?>>of(
+                byte[].class, new ByteArraySerializer(),
+                PaymentEvent.class, new PaymentEventSerializer()));
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(), valueSerializer));
+    }
+
+    // Payment events are not retried in place: the failing record is moved to the retry topics and the
+    // partition keeps flowing. Other listeners keep the default in-place retries.
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(KafkaTemplate<String, Object> paymentEventsKafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(paymentEventsKafkaTemplate,
+                (record, e) -> isPaymentEvent(record.topic()) ? new TopicPartition(FAILED_TOPIC, -1) : null);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer);
+        errorHandler.setBackOffFunction((record, e) -> isPaymentEvent(record.topic()) ? NO_RETRIES : null);
+        return errorHandler;
+    }
+
+    private static boolean isPaymentEvent(String topic) {
+        return PAYMENT_EVENTS_TOPIC.equals(topic);
+    }
+}
@@ -0,0 +1,16 @@
+package com.riloidx.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "kafka.payment-events")
+public record PaymentEventsProperties(
+        String listenerMode,
+        int batchSize,
+        int concurrency,
+        int workers,
+        long recentEventIdsSize,
+        Duration processedRetention,
+        int cleanupBatchSize
+) {}
@@ -0,0 +1,39 @@
+package com.riloidx.orderservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riloidx.orderservice.dto.response.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class UserCacheConfig {
+
+    private final UserCacheProperties userCacheProperties;
+
+    @Bean
+    public Cache<Long, UserResponseDto> userCache(MeterRegistry meterRegistry) {
+        Cache<Long, UserResponseDto> cache = Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.maximumSize())
+                .expireAfterWrite(userCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    @Bean
+    public Cache<Long, UserResponseDto> lastKnownUserCache(MeterRegistry meterRegistry) {
+        Cache<Long, UserResponseDto> cache = Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.staleMaximumSize())
+                .expireAfterWrite(userCacheProperties.staleExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "users-last-known");
+    }
+}
@@ -0,0 +1,13 @@
+package com.riloidx.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "integration.user-service.cache")
+public record UserCacheProperties(
+        long maximumSize,
+        Duration expireAfterWrite,
+        long staleMaximumSize,
+        Duration staleExpireAfterWrite
+) {}
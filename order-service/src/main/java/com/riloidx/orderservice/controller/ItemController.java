@@ -2,14 +2,18 @@ package com.riloidx.orderservice.controller;
 
 import com.riloidx.orderservice.dto.request.ItemCreateDto;
 import com.riloidx.orderservice.dto.request.ItemUpdateDto;
+import com.riloidx.orderservice.dto.response.ItemCatalogSummaryDto;
 import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.service.ItemCatalogSnapshot;
 import com.riloidx.orderservice.service.ItemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
@@ -27,8 +31,19 @@ public class ItemController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ItemResponseDto>> findAll() {
-        List<ItemResponseDto> response = itemService.findAll();
+    public ResponseEntity<List<ItemResponseDto>> findAll(WebRequest request) {
+        ItemCatalogSnapshot catalog = itemService.getCatalog();
+
+        if (request.checkNotModified(catalog.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.etag()).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(catalog.etag()).body(catalog.items());
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<ItemCatalogSummaryDto> getSummary(@RequestParam(required = false) List<BigDecimal> bands) {
+        ItemCatalogSummaryDto response = itemService.getCatalogSummary(bands);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -1,20 +1,27 @@
 package com.riloidx.orderservice.controller;
 
+import com.riloidx.orderservice.dto.request.OrderBulkCreateDto;
 import com.riloidx.orderservice.dto.request.OrderCreateDto;
 import com.riloidx.orderservice.dto.request.OrderUpdateDto;
+import com.riloidx.orderservice.dto.response.OrderBulkCreateResponseDto;
+import com.riloidx.orderservice.dto.response.OrderCursorPageDto;
 import com.riloidx.orderservice.dto.response.OrderFullResponseDto;
 import com.riloidx.orderservice.dto.response.OrderResponseDto;
+import com.riloidx.orderservice.enums.ExportFormat;
 import com.riloidx.orderservice.enums.OrderStatus;
 import com.riloidx.orderservice.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @RestController
 @RequestMapping("/orders")
@@ -29,6 +36,12 @@ public class OrderController {
         return orderService.create(orderCreateDto);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderBulkCreateResponseDto createAll(@RequestBody @Valid OrderBulkCreateDto orderBulkCreateDto) {
+        return orderService.createAll(orderBulkCreateDto.orders());
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public Page<OrderFullResponseDto> findAll(
@@ -47,6 +60,51 @@ public class OrderController {
         );
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderCursorPageDto findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(required = false) LocalDate createdAfter,
+            @RequestParam(required = false) LocalDate createdBefore
+    ) {
+        return orderService.findAllByCursor(
+                cursor,
+                size,
+                status,
+                deleted,
+                createdAfter,
+                createdBefore
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean enrich,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(required = false) LocalDate createdAfter,
+            @RequestParam(required = false) LocalDate createdBefore
+    ) {
+        StreamingResponseBody body = outputStream -> orderService.export(
+                outputStream,
+                format,
+                enrich,
+                status,
+                deleted,
+                createdAfter,
+                createdBefore
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + format.getExtension())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public OrderFullResponseDto findById(@PathVariable Long id) {
@@ -55,8 +113,17 @@ public class OrderController {
 
     @GetMapping("/user/{userId}")
     @ResponseStatus(HttpStatus.OK)
-    public List<OrderFullResponseDto> findByUserId(@PathVariable Long userId) {
-        return orderService.findByUserId(userId);
+    public Page<OrderFullResponseDto> findByUserId(@PathVariable Long userId, Pageable pageable) {
+        return orderService.findByUserId(userId, pageable);
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamByUserId(@PathVariable Long userId) {
+        StreamingResponseBody body = outputStream -> orderService.streamByUserId(userId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportFormat.NDJSON.getMediaType()))
+                .body(body);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,22 @@
+package com.riloidx.orderservice.controller;
+
+import com.riloidx.orderservice.dto.response.DltReplayResponseDto;
+import com.riloidx.orderservice.service.PaymentEventReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/orders/admin/payment-events")
+@RequiredArgsConstructor
+public class PaymentEventAdminController {
+
+    private final PaymentEventReplayService paymentEventReplayService;
+
+    @PostMapping("/dlt/replay")
+    @ResponseStatus(HttpStatus.OK)
+    public DltReplayResponseDto replayDeadLetters(@RequestParam(defaultValue = "100") int batchSize,
+                                                  @RequestParam(defaultValue = "1000") int maxRecords) {
+        return paymentEventReplayService.replayDeadLetters(batchSize, maxRecords);
+    }
+}
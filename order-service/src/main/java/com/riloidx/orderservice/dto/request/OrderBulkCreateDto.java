@@ -0,0 +1,12 @@
+package com.riloidx.orderservice.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record OrderBulkCreateDto(
+        @NotNull(message = "Orders list must not be null")
+        @Size(min = 1, max = 5000, message = "Bulk request must contain between 1 and 5000 orders")
+        List<OrderCreateDto> orders
+) {}
@@ -11,5 +11,7 @@ public record OrderUpdateDto(
 
         @Size(min = 1, message = "Order must contain at least one item")
         @Valid
-        List<OrderItemDto> items
+        List<OrderItemDto> items,
+
+        Long version
 ) {}
@@ -0,0 +1,7 @@
+package com.riloidx.orderservice.dto.request;
+
+import java.util.Collection;
+
+public record UserBatchRequestDto(
+        Collection<Long> ids
+) {}
@@ -0,0 +1,6 @@
+package com.riloidx.orderservice.dto.response;
+
+public record DltReplayResponseDto(
+        int replayed,
+        int batches
+) {}
@@ -0,0 +1,13 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ItemCatalogSummaryDto(
+        long count,
+        BigDecimal total,
+        BigDecimal min,
+        BigDecimal max,
+        BigDecimal average,
+        List<PriceBandStatsDto> bands
+) {}
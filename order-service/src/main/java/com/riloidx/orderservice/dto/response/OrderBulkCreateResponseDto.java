@@ -0,0 +1,9 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.util.List;
+
+public record OrderBulkCreateResponseDto(
+        int created,
+        int failed,
+        List<OrderBulkResultDto> results
+) {}
@@ -0,0 +1,17 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.util.List;
+
+public record OrderBulkResultDto(
+        int index,
+        Long orderId,
+        List<String> errors
+) {
+    public static OrderBulkResultDto created(int index, Long orderId) {
+        return new OrderBulkResultDto(index, orderId, List.of());
+    }
+
+    public static OrderBulkResultDto failed(int index, List<String> errors) {
+        return new OrderBulkResultDto(index, null, errors);
+    }
+}
@@ -0,0 +1,10 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.util.List;
+
+public record OrderCursorPageDto(
+        List<OrderFullResponseDto> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {}
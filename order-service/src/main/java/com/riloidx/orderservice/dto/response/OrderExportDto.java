@@ -0,0 +1,25 @@
+package com.riloidx.orderservice.dto.response;
+
+import com.riloidx.orderservice.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record OrderExportDto(
+        Long id,
+        Long userId,
+        OrderStatus status,
+        Boolean deleted,
+        BigDecimal totalPrice,
+        Instant createdAt,
+        UserResponseDto user
+) {
+    public OrderExportDto(Long id, Long userId, OrderStatus status, Boolean deleted,
+                          BigDecimal totalPrice, Instant createdAt) {
+        this(id, userId, status, deleted, totalPrice, createdAt, null);
+    }
+
+    public OrderExportDto withUser(UserResponseDto user) {
+        return new OrderExportDto(id, userId, status, deleted, totalPrice, createdAt, user);
+    }
+}
@@ -11,5 +11,6 @@ public record OrderFullResponseDto (
         Boolean deleted,
         BigDecimal totalPrice,
         UserResponseDto user,
-        List<OrderItemResponseDto> orderItems
+        List<OrderItemResponseDto> orderItems,
+        Long version
 ) {}
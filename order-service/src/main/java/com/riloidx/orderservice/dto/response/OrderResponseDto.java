@@ -10,5 +10,6 @@ public record OrderResponseDto(
         OrderStatus status,
         Boolean deleted,
         BigDecimal totalPrice,
-        List<OrderItemResponseDto> orderItems
+        List<OrderItemResponseDto> orderItems,
+        Long version
 ) {}
@@ -0,0 +1,12 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.math.BigDecimal;
+
+public record PriceBandStatsDto(
+        BigDecimal from,
+        BigDecimal to,
+        long count,
+        BigDecimal total,
+        BigDecimal min,
+        BigDecimal max
+) {}
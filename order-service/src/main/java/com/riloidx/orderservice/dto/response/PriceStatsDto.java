@@ -0,0 +1,10 @@
+package com.riloidx.orderservice.dto.response;
+
+import java.math.BigDecimal;
+
+public record PriceStatsDto(
+        Long count,
+        BigDecimal sum,
+        BigDecimal min,
+        BigDecimal max
+) {}
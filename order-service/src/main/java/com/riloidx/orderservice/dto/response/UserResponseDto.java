@@ -4,5 +4,18 @@ public record UserResponseDto(
         Long id,
         String name,
         String surname,
-        String email
-) {}
+        String email,
+        boolean stale
+) {
+    public UserResponseDto(Long id, String name, String surname, String email) {
+        this(id, name, surname, email, false);
+    }
+
+    public static UserResponseDto unknown(Long id) {
+        return new UserResponseDto(id, "unknown", "Unknown", "unavailable");
+    }
+
+    public UserResponseDto asStale() {
+        return new UserResponseDto(id, name, surname, email, true);
+    }
+}
@@ -0,0 +1,38 @@
+package com.riloidx.orderservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "item_catalog_summary")
+public class ItemCatalogSummary {
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+
+    @Column(name = "price_sum", nullable = false, precision = 19, scale = 2)
+    private BigDecimal priceSum;
+
+    @Column(name = "min_price", precision = 10, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -15,7 +15,8 @@ import java.util.List;
 @Table(name = "orders")
 public class Order extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -32,6 +33,10 @@ public class Order extends Auditable {
     @Column(name = "deleted")
     private Boolean deleted = false;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 }
\ No newline at end of file
@@ -10,7 +10,8 @@ import lombok.Setter;
 @Table(name = "order_items")
 public class OrderItem extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
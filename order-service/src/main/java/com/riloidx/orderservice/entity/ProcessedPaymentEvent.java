@@ -0,0 +1,45 @@
+package com.riloidx.orderservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "processed_payment_events")
+public class ProcessedPaymentEvent implements Persistable<String> {
+    @Id
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    public ProcessedPaymentEvent(String eventId, Long orderId, Instant processedAt) {
+        this.eventId = eventId;
+        this.orderId = orderId;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
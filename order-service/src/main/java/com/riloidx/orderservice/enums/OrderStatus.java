@@ -3,5 +3,13 @@ package com.riloidx.orderservice.enums;
 public enum OrderStatus {
     PENDING,
     CONFIRMED,
-    CANCELED
+    CANCELED;
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> true;
+            case CONFIRMED -> target == CONFIRMED || target == CANCELED;
+            case CANCELED -> target == CANCELED;
+        };
+    }
 }
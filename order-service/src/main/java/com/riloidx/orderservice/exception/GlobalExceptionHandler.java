@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -46,6 +47,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    @ExceptionHandler({OrderVersionConflictException.class, OrderStatusTransitionException.class,
+            ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(RuntimeException e,
+                                                        HttpServletRequest request) {
+        log.warn("Conflict on {}: {}", request.getRequestURI(), e.getMessage());
+        var body = buildErrorResponse(e, HttpStatus.CONFLICT, request);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(RuntimeException e,
                                                                         HttpServletRequest request) {
@@ -0,0 +1,9 @@
+package com.riloidx.orderservice.exception;
+
+import com.riloidx.orderservice.enums.OrderStatus;
+
+public class OrderStatusTransitionException extends RuntimeException {
+    public OrderStatusTransitionException(OrderStatus from, OrderStatus to) {
+        super("Order status cannot change from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,8 @@
+package com.riloidx.orderservice.exception;
+
+public class OrderVersionConflictException extends RuntimeException {
+    public OrderVersionConflictException(long id, long expectedVersion, long actualVersion) {
+        super("Order with id=" + id + " has been modified: expected version=" + expectedVersion
+                + ", actual version=" + actualVersion);
+    }
+}
@@ -0,0 +1,47 @@
+package com.riloidx.orderservice.kafka.consumer;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.payment-events", name = "listener-mode", havingValue = "batch", matchIfMissing = true)
+public class PaymentBatchConsumer {
+
+    private final PaymentEventDeduplicator paymentEventDeduplicator;
+
+    @KafkaListener(
+            topics = "payment-events",
+            groupId = "order-group",
+            batch = "true",
+            concurrency = "${kafka.payment-events.concurrency:1}",
+            properties = {
+                    "max.poll.records=${kafka.payment-events.batch-size:500}",
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer"
+            }
+    )
+    public void handlePaymentEvents(List<ConsumerRecord<String, PaymentEvent>> records) {
+        log.debug("Received batch of {} payment events", records.size());
+
+        List<PaymentEvent> paymentEvents = PaymentEventRecords.valuesIfAllReadable(records);
+        if (paymentEvents != null) {
+            try {
+                paymentEventDeduplicator.process(paymentEvents);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Batch of {} payment events failed, processing record by record", records.size(), e);
+            }
+        }
+        PaymentEventRecords.processOneByOne(records, paymentEventDeduplicator);
+    }
+}
@@ -1,19 +1,30 @@
 package com.riloidx.orderservice.kafka.consumer;
 
 import com.riloidx.orderservice.kafka.event.PaymentEvent;
-import com.riloidx.orderservice.service.OrderService;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.payment-events", name = "listener-mode", havingValue = "record")
 public class PaymentConsumer {
 
-    private final OrderService orderService;
+    private final PaymentEventDeduplicator paymentEventDeduplicator;
 
-    @KafkaListener(topics = "payment-events", groupId = "order-group")
+    @KafkaListener(
+            topics = "payment-events",
+            groupId = "order-group",
+            properties = {
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer"
+            }
+    )
     public void handlePaymentEvent(PaymentEvent paymentEvent) {
-        orderService.updateStatusFromPayment(paymentEvent.orderId(), paymentEvent.status());
+        paymentEventDeduplicator.process(List.of(paymentEvent));
     }
 }
@@ -0,0 +1,44 @@
+package com.riloidx.orderservice.kafka.consumer;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class PaymentEventRecords {
+
+    private PaymentEventRecords() {
+    }
+
+    // Null values are records the ErrorHandlingDeserializer could not decode.
+    static List<PaymentEvent> valuesIfAllReadable(List<ConsumerRecord<String, PaymentEvent>> records) {
+        List<PaymentEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, PaymentEvent> record : records) {
+            if (record.value() == null) {
+                return null;
+            }
+            events.add(record.value());
+        }
+        return events;
+    }
+
+    // Replays the batch record by record so the error handler commits everything before the first failing
+    // record, hands that record to the retry topics and redelivers the rest.
+    static void processOneByOne(List<ConsumerRecord<String, PaymentEvent>> records,
+                                PaymentEventDeduplicator paymentEventDeduplicator) {
+        for (ConsumerRecord<String, PaymentEvent> record : records) {
+            if (record.value() == null) {
+                throw new BatchListenerFailedException("Unreadable payment event", record);
+            }
+            try {
+                paymentEventDeduplicator.process(List.of(record.value()));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to process payment event " + record.value().eventId(),
+                        e, record);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.riloidx.orderservice.kafka.consumer;
+
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "kafka.payment-events", name = "listener-mode", havingValue = "keyed")
+public class PaymentKeyedConsumer {
+
+    private final PaymentEventDeduplicator paymentEventDeduplicator;
+    private final int workers;
+    private final ExecutorService executor;
+
+    public PaymentKeyedConsumer(PaymentEventDeduplicator paymentEventDeduplicator,
+                                PaymentEventsProperties properties) {
+        this.paymentEventDeduplicator = paymentEventDeduplicator;
+        this.workers = Math.max(1, properties.workers());
+        this.executor = Executors.newFixedThreadPool(workers * Math.max(1, properties.concurrency()),
+                new CustomizableThreadFactory("payment-worker-"));
+    }
+
+    @KafkaListener(
+            topics = "payment-events",
+            groupId = "order-group",
+            batch = "true",
+            concurrency = "${kafka.payment-events.concurrency:1}",
+            properties = {
+                    "max.poll.records=${kafka.payment-events.batch-size:500}",
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer"
+            }
+    )
+    public void handlePaymentEvents(List<ConsumerRecord<String, PaymentEvent>> records) {
+        if (PaymentEventRecords.valuesIfAllReadable(records) != null) {
+            try {
+                processInLanes(records);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Batch of {} payment events failed, processing record by record", records.size(), e);
+            }
+        }
+        PaymentEventRecords.processOneByOne(records, paymentEventDeduplicator);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void processInLanes(List<ConsumerRecord<String, PaymentEvent>> records) {
+        List<List<PaymentEvent>> lanes = splitByKey(records);
+
+        CompletableFuture<?>[] futures = lanes.stream()
+                .filter(lane -> !lane.isEmpty())
+                .map(lane -> CompletableFuture.runAsync(() -> paymentEventDeduplicator.process(lane), executor))
+                .toArray(CompletableFuture[]::new);
+        log.debug("Dispatched {} payment events to {} workers", records.size(), futures.length);
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private List<List<PaymentEvent>> splitByKey(List<ConsumerRecord<String, PaymentEvent>> records) {
+        List<List<PaymentEvent>> lanes = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            lanes.add(new ArrayList<>());
+        }
+
+        for (ConsumerRecord<String, PaymentEvent> record : records) {
+            lanes.get(Math.floorMod(routingKey(record).hashCode(), workers)).add(record.value());
+        }
+        return lanes;
+    }
+
+    private String routingKey(ConsumerRecord<String, PaymentEvent> record) {
+        return record.key() != null ? record.key() : String.valueOf(record.value().orderId());
+    }
+}
@@ -0,0 +1,65 @@
+package com.riloidx.orderservice.kafka.consumer;
+
+import com.riloidx.orderservice.config.PaymentEventsKafkaConfig;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+public class PaymentRetryConsumer {
+
+    private final PaymentEventDeduplicator paymentEventDeduplicator;
+    private final Counter deadLettered;
+
+    public PaymentRetryConsumer(PaymentEventDeduplicator paymentEventDeduplicator, MeterRegistry meterRegistry) {
+        this.paymentEventDeduplicator = paymentEventDeduplicator;
+        this.deadLettered = Counter.builder("payment.events.dead-lettered")
+                .description("Payment events that exhausted their retries")
+                .register(meterRegistry);
+    }
+
+    @RetryableTopic(
+            attempts = "${kafka.payment-events.retry.attempts:5}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.payment-events.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${kafka.payment-events.retry.multiplier:3}",
+                    maxDelayExpression = "${kafka.payment-events.retry.max-delay-ms:60000}"
+            ),
+            autoCreateTopics = "${kafka.payment-events.retry.auto-create-topics:true}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = "paymentEventsKafkaTemplate"
+    )
+    @KafkaListener(
+            topics = PaymentEventsKafkaConfig.FAILED_TOPIC,
+            groupId = "order-group",
+            properties = {
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer"
+            }
+    )
+    public void handleFailedPaymentEvent(PaymentEvent paymentEvent) {
+        paymentEventDeduplicator.process(List.of(paymentEvent));
+    }
+
+    @DltHandler
+    public void handleDeadLetter(PaymentEvent paymentEvent, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        deadLettered.increment();
+        log.error("Payment event {} for order {} moved to {} after exhausting retries",
+                paymentEvent.eventId(), paymentEvent.orderId(), topic);
+    }
+}
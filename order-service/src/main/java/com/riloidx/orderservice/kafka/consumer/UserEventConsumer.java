@@ -0,0 +1,25 @@
+package com.riloidx.orderservice.kafka.consumer;
+
+import com.riloidx.orderservice.kafka.event.UserChangedEvent;
+import com.riloidx.orderservice.service.UserLookupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final UserLookupService userLookupService;
+
+    // Every instance keeps its own cache, so each needs all events: one group per pod,
+    // stable across restarts so no orphaned group is left behind each time
+    @KafkaListener(
+            topics = "user-events",
+            groupId = "order-user-cache-${HOSTNAME:local}",
+            properties = "spring.json.value.default.type=com.riloidx.orderservice.kafka.event.UserChangedEvent"
+    )
+    public void handleUserChangedEvent(UserChangedEvent userChangedEvent) {
+        userLookupService.evict(userChangedEvent.userId());
+    }
+}
@@ -1,6 +1,7 @@
 package com.riloidx.orderservice.kafka.event;
 
 public record PaymentEvent(
+        String eventId,
         Long orderId,
         String status
 ) {}
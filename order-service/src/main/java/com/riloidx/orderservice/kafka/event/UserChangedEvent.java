@@ -0,0 +1,6 @@
+package com.riloidx.orderservice.kafka.event;
+
+public record UserChangedEvent(
+        Long userId,
+        String type
+) {}
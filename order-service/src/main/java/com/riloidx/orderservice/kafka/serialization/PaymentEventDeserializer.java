@@ -0,0 +1,39 @@
+package com.riloidx.orderservice.kafka.serialization;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class PaymentEventDeserializer implements Deserializer<PaymentEvent> {
+
+    private static final byte[] BINARY_FORMAT_VALUE = PaymentEventCodec.BINARY_FORMAT.getBytes(StandardCharsets.UTF_8);
+
+    private final JsonDeserializer<PaymentEvent> jsonDeserializer = new JsonDeserializer<>(PaymentEvent.class, false);
+
+    @Override
+    public PaymentEvent deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public PaymentEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header format = headers.lastHeader(PaymentEventCodec.FORMAT_HEADER);
+        if (format != null && Arrays.equals(BINARY_FORMAT_VALUE, format.value())) {
+            return PaymentEventCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,48 @@
+package com.riloidx.orderservice.kafka.serialization;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class PaymentEventSerializer implements Serializer<PaymentEvent> {
+
+    public static final String FORMAT_CONFIG = "payment.events.format";
+
+    private static final byte[] BINARY_FORMAT_VALUE = PaymentEventCodec.BINARY_FORMAT.getBytes(StandardCharsets.UTF_8);
+
+    private final JsonSerializer<PaymentEvent> jsonSerializer = new JsonSerializer<>();
+    private boolean binary;
+
+    // Retries and replays follow the same setting as payment-service, so JSON stays the default here too.
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object format = configs.get(FORMAT_CONFIG);
+        binary = format != null && PaymentEventCodec.BINARY_FORMAT.equalsIgnoreCase(format.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, PaymentEvent data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, PaymentEvent data) {
+        // Re-published records carry the headers of the original, which may say binary
+        headers.remove(PaymentEventCodec.FORMAT_HEADER);
+        if (!binary || data == null) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+        headers.add(PaymentEventCodec.FORMAT_HEADER, BINARY_FORMAT_VALUE);
+        return PaymentEventCodec.encode(data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
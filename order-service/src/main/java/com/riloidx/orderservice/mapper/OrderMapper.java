@@ -13,6 +13,7 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = {OrderItemMapper.class})
 public interface  OrderMapper {
     @Mapping(target = "orderItems", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Order toEntity(OrderCreateDto orderCreateDto);
 
     OrderResponseDto toDto(Order order);
@@ -25,10 +26,12 @@ public interface  OrderMapper {
     @Mapping(target = "totalPrice", source = "order.totalPrice")
     @Mapping(target = "orderItems", source = "order.orderItems")
     @Mapping(target = "user", source = "userDto")
+    @Mapping(target = "version", source = "order.version")
     OrderFullResponseDto toFullDto(Order order, UserResponseDto userDto);
 
 
     @Mapping(target = "orderItems", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(OrderUpdateDto orderUpdateDto,
                              @MappingTarget Order order);
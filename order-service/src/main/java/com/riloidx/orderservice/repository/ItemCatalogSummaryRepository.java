@@ -0,0 +1,39 @@
+package com.riloidx.orderservice.repository;
+
+import com.riloidx.orderservice.entity.ItemCatalogSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+
+public interface ItemCatalogSummaryRepository extends JpaRepository<ItemCatalogSummary, Integer> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE item_catalog_summary
+            SET item_count = item_count + 1,
+                price_sum = price_sum + :price,
+                min_price = LEAST(COALESCE(min_price, :price), :price),
+                max_price = GREATEST(COALESCE(max_price, :price), :price),
+                updated_at = now()
+            WHERE id = 1
+            """, nativeQuery = true)
+    void applyAdded(BigDecimal price);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE item_catalog_summary
+            SET item_count = item_count - 1,
+                price_sum = price_sum - :price,
+                min_price = CASE WHEN min_price = :price THEN (SELECT MIN(price) FROM items) ELSE min_price END,
+                max_price = CASE WHEN max_price = :price THEN (SELECT MAX(price) FROM items) ELSE max_price END,
+                updated_at = now()
+            WHERE id = 1
+            """, nativeQuery = true)
+    void applyRemoved(BigDecimal price);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE item_catalog_summary SET updated_at = now() WHERE id = 1", nativeQuery = true)
+    void touch();
+}
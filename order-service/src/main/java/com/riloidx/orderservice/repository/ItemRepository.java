@@ -1,10 +1,23 @@
 package com.riloidx.orderservice.repository;
 
+import com.riloidx.orderservice.dto.response.PriceStatsDto;
 import com.riloidx.orderservice.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
     Optional<Item> findByName(String name);
+
+    List<Item> findAllByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.riloidx.orderservice.dto.response.PriceStatsDto(
+                COUNT(i), SUM(i.price), MIN(i.price), MAX(i.price))
+            FROM Item i
+            """)
+    PriceStatsDto aggregatePrices();
 }
@@ -1,11 +1,58 @@
 package com.riloidx.orderservice.repository;
 
+import com.riloidx.orderservice.dto.response.OrderExportDto;
 import com.riloidx.orderservice.entity.Order;
+import com.riloidx.orderservice.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
-    List<Order> findAllByUserId(Long userId);
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>,
+        OrderStatusRepository {
+    Page<Order> findByUserId(Long userId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    Stream<Long> streamIdsByUserId(Long userId);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.item"})
+    Optional<Order> findWithItemsById(Long id);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.item WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.riloidx.orderservice.dto.response.OrderExportDto(
+                o.id, o.userId, o.status, o.deleted, o.totalPrice, o.createdAt)
+            FROM Order o
+            WHERE (:status IS NULL OR o.status = :status)
+              AND (:deleted IS NULL OR o.deleted = :deleted)
+              AND (:createdAfter IS NULL OR o.createdAt >= :createdAfter)
+              AND (:createdBefore IS NULL OR o.createdAt <= :createdBefore)
+            ORDER BY o.id
+            """)
+    Stream<OrderExportDto> streamForExport(OrderStatus status,
+                                           Boolean deleted,
+                                           Instant createdAfter,
+                                           Instant createdBefore);
 }
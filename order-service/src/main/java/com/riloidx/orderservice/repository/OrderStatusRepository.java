@@ -0,0 +1,11 @@
+package com.riloidx.orderservice.repository;
+
+import com.riloidx.orderservice.enums.OrderStatus;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface OrderStatusRepository {
+    // Returns the ids that were not updated: missing orders and orders that are no longer PENDING
+    Set<Long> transitionPendingStatuses(Map<Long, OrderStatus> statuses);
+}
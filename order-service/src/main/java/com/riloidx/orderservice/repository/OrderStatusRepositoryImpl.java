@@ -0,0 +1,56 @@
+package com.riloidx.orderservice.repository;
+
+import com.riloidx.orderservice.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class OrderStatusRepositoryImpl implements OrderStatusRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<Long> transitionPendingStatuses(Map<Long, OrderStatus> statuses) {
+        List<Map.Entry<Long, OrderStatus>> entries = new ArrayList<>(statuses.entrySet());
+        Set<Long> skipped = new LinkedHashSet<>(statuses.keySet());
+        Instant now = Instant.now();
+
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, OrderStatus>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+            updateChunk(chunk, now).forEach(skipped::remove);
+        }
+        return skipped;
+    }
+
+    private List<Long> updateChunk(List<Map.Entry<Long, OrderStatus>> chunk, Instant now) {
+        StringBuilder sql = new StringBuilder("UPDATE orders SET status = CASE id");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(" WHEN :id").append(i).append(" THEN :status").append(i);
+        }
+        sql.append(" END, version = version + 1, updated_at = :updatedAt WHERE status = 'PENDING' AND id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(":id").append(i);
+        }
+        sql.append(") RETURNING id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            query.setParameter("id" + i, chunk.get(i).getKey());
+            query.setParameter("status" + i, chunk.get(i).getValue().name());
+        }
+        query.setParameter("updatedAt", now);
+
+        List<?> updatedIds = query.getResultList();
+        return updatedIds.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.riloidx.orderservice.repository;
+
+import com.riloidx.orderservice.entity.ProcessedPaymentEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+
+public interface ProcessedPaymentEventRepository extends JpaRepository<ProcessedPaymentEvent, String> {
+    @Query("SELECT e.eventId FROM ProcessedPaymentEvent e WHERE e.eventId IN :eventIds")
+    Set<String> findProcessedIds(Collection<String> eventIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM processed_payment_events
+            WHERE event_id IN (
+                SELECT event_id FROM processed_payment_events
+                WHERE processed_at < :cutoff
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteProcessedBefore(Instant cutoff, int limit);
+}
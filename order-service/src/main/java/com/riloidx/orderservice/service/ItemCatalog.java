@@ -0,0 +1,91 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.entity.ItemCatalogSummary;
+import com.riloidx.orderservice.repository.ItemCatalogSummaryRepository;
+import com.riloidx.orderservice.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemCatalog {
+
+    private final ItemRepository itemRepo;
+    private final ItemCatalogSummaryRepository summaryRepo;
+
+    private final AtomicReference<ItemCatalogSnapshot> current = new AtomicReference<>();
+
+    public ItemCatalogSnapshot snapshot() {
+        ItemCatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    public synchronized ItemCatalogSnapshot rebuild() {
+        Instant changeMarker = loadChangeMarker();
+        List<Item> items = itemRepo.findAll();
+
+        ItemCatalogSnapshot previous = current.get();
+        long version = previous == null ? 1 : previous.version() + 1;
+        ItemCatalogSnapshot snapshot = ItemCatalogSnapshot.of(version, changeMarker, items);
+        current.set(snapshot);
+
+        log.info("Item catalog snapshot v{} built with {} items", version, snapshot.size());
+        return snapshot;
+    }
+
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildQuietly();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuildQuietly();
+            }
+        });
+    }
+
+    // The write is already committed here; a stale snapshot is picked up by refreshIfChanged
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Item catalog rebuild after write failed, leaving it to the scheduled refresh: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.catalog.refresh-interval:30s}")
+    public void refreshIfChanged() {
+        ItemCatalogSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (!Objects.equals(snapshot.changeMarker(), loadChangeMarker())) {
+                log.debug("Item catalog changed outside of this instance, rebuilding snapshot");
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Item catalog refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private Instant loadChangeMarker() {
+        return summaryRepo.findById(ItemCatalogSummary.SINGLETON_ID)
+                .map(ItemCatalogSummary::getUpdatedAt)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.entity.Item;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ItemCatalogSnapshot {
+
+    public static final ItemCatalogSnapshot EMPTY = of(0, null, List.of());
+
+    private final long version;
+    private final Instant changeMarker;
+    private final long[] ids;
+    private final Map<String, ItemResponseDto> itemsByName;
+    private final List<ItemResponseDto> dtos;
+    private final String etag;
+
+    private ItemCatalogSnapshot(long version, Instant changeMarker, long[] ids,
+                                Map<String, ItemResponseDto> itemsByName, List<ItemResponseDto> dtos, String etag) {
+        this.version = version;
+        this.changeMarker = changeMarker;
+        this.ids = ids;
+        this.itemsByName = itemsByName;
+        this.dtos = dtos;
+        this.etag = etag;
+    }
+
+    public static ItemCatalogSnapshot of(long version, Instant changeMarker, Collection<Item> source) {
+        ItemResponseDto[] dtos = source.stream()
+                .map(item -> new ItemResponseDto(item.getId(), item.getName(), item.getPrice()))
+                .sorted(Comparator.comparingLong(ItemResponseDto::id))
+                .toArray(ItemResponseDto[]::new);
+
+        long[] ids = new long[dtos.length];
+        Map<String, ItemResponseDto> itemsByName = new HashMap<>(dtos.length * 2);
+        MessageDigest digest = sha256();
+
+        for (int i = 0; i < dtos.length; i++) {
+            ItemResponseDto dto = dtos[i];
+            ids[i] = dto.id();
+            itemsByName.put(dto.name(), dto);
+            digest.update((dto.id() + ":" + dto.name() + ":" + dto.price().toPlainString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        String etag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        return new ItemCatalogSnapshot(version, changeMarker, ids,
+                Map.copyOf(itemsByName), List.of(dtos), etag);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant changeMarker() {
+        return changeMarker;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public List<ItemResponseDto> items() {
+        return dtos;
+    }
+
+    public Optional<ItemResponseDto> findById(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index < 0 ? Optional.empty() : Optional.of(dtos.get(index));
+    }
+
+    public Optional<ItemResponseDto> findByName(String name) {
+        return Optional.ofNullable(itemsByName.get(name));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.riloidx.orderservice.service;
 
 import com.riloidx.orderservice.dto.request.ItemCreateDto;
 import com.riloidx.orderservice.dto.request.ItemUpdateDto;
+import com.riloidx.orderservice.dto.response.ItemCatalogSummaryDto;
 import com.riloidx.orderservice.dto.response.ItemResponseDto;
 import com.riloidx.orderservice.entity.Item;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ItemService {
 
@@ -14,8 +17,14 @@ public interface ItemService {
 
     List<ItemResponseDto> findAll();
 
+    ItemCatalogSnapshot getCatalog();
+
     Item findById(long id);
 
+    Map<Long, ItemResponseDto> findAllByIds(Collection<Long> ids);
+
+    Map<Long, ItemResponseDto> findExistingByIds(Collection<Long> ids);
+
     ItemResponseDto findDtoById(long id);
 
     ItemResponseDto findByName(String name);
@@ -25,4 +34,6 @@ public interface ItemService {
     void delete(long id);
 
     BigDecimal calculateTotalPriceOfAllItems();
+
+    ItemCatalogSummaryDto getCatalogSummary(List<BigDecimal> priceBands);
 }
@@ -2,11 +2,17 @@ package com.riloidx.orderservice.service;
 
 import com.riloidx.orderservice.dto.request.ItemCreateDto;
 import com.riloidx.orderservice.dto.request.ItemUpdateDto;
+import com.riloidx.orderservice.config.CatalogProperties;
+import com.riloidx.orderservice.dto.response.ItemCatalogSummaryDto;
 import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.dto.response.PriceBandStatsDto;
+import com.riloidx.orderservice.dto.response.PriceStatsDto;
 import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.entity.ItemCatalogSummary;
 import com.riloidx.orderservice.exception.ItemAlreadyExistsException;
 import com.riloidx.orderservice.exception.ItemNotFoundException;
 import com.riloidx.orderservice.mapper.ItemMapper;
+import com.riloidx.orderservice.repository.ItemCatalogSummaryRepository;
 import com.riloidx.orderservice.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +21,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -23,7 +35,10 @@ import java.util.List;
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepo;
+    private final ItemCatalogSummaryRepository summaryRepo;
+    private final ItemCatalog itemCatalog;
     private final ItemMapper itemMapper;
+    private final CatalogProperties catalogProperties;
 
     @Override
     @Transactional
@@ -34,6 +49,8 @@ public class ItemServiceImpl implements ItemService {
 
         Item item = itemMapper.toEntity(itemCreateDto);
         Item savedItem = itemRepo.save(item);
+        summaryRepo.applyAdded(savedItem.getPrice());
+        itemCatalog.rebuildAfterCommit();
         
         log.info("Item created successfully with ID: {}", savedItem.getId());
         return itemMapper.toDto(savedItem);
@@ -43,10 +60,12 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemResponseDto> findAll() {
         log.debug("Finding all items");
 
-        List<Item> items = itemRepo.findAll();
-        log.debug("Found {} items", items.size());
+        return getCatalog().items();
+    }
 
-        return itemMapper.toDto(items);
+    @Override
+    public ItemCatalogSnapshot getCatalog() {
+        return itemCatalog.snapshot();
     }
 
     @Override
@@ -59,22 +78,51 @@ public class ItemServiceImpl implements ItemService {
                 });
     }
 
+    @Override
+    public Map<Long, ItemResponseDto> findAllByIds(Collection<Long> ids) {
+        Map<Long, ItemResponseDto> items = findExistingByIds(ids);
+
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !items.containsKey(id))
+                .sorted()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("Items not found with IDs: {}", missingIds);
+            throw new ItemNotFoundException("ids", missingIds.toString());
+        }
+
+        return items;
+    }
+
+    @Override
+    public Map<Long, ItemResponseDto> findExistingByIds(Collection<Long> ids) {
+        log.debug("Finding {} items by IDs", ids.size());
+
+        // Order writes check and price items against the database: the catalog snapshot
+        // of this pod can still hold items deleted or repriced on another one
+        Map<Long, ItemResponseDto> items = new HashMap<>(ids.size() * 2);
+        itemRepo.findAllByIdIn(ids).forEach(item -> items.put(item.getId(), itemMapper.toDto(item)));
+
+        return items;
+    }
+
     @Override
     public ItemResponseDto findDtoById(long id) {
-        return itemMapper.toDto(findById(id));
+        return getCatalog().findById(id)
+                .orElseGet(() -> itemMapper.toDto(findById(id)));
     }
 
     @Override
     public ItemResponseDto findByName(String name) {
         log.debug("Finding item by name: {}", name);
         
-        Item item = itemRepo.findByName(name).
-                orElseThrow(() -> {
+        return getCatalog().findByName(name)
+                .or(() -> itemRepo.findByName(name).map(itemMapper::toDto))
+                .orElseThrow(() -> {
                     log.warn("Item not found with name: {}", name);
                     return new ItemNotFoundException("name", name);
                 });
-
-        return itemMapper.toDto(item);
     }
 
     @Override
@@ -85,10 +133,18 @@ public class ItemServiceImpl implements ItemService {
         validateNameIsUnique(itemUpdateDto.name());
 
         Item curItem = findById(id);
+        BigDecimal oldPrice = curItem.getPrice();
 
         itemMapper.updateEntityFromDto(itemUpdateDto, curItem);
 
         Item savedItem = itemRepo.save(curItem);
+        if (oldPrice.compareTo(savedItem.getPrice()) != 0) {
+            summaryRepo.applyRemoved(oldPrice);
+            summaryRepo.applyAdded(savedItem.getPrice());
+        } else {
+            summaryRepo.touch();
+        }
+        itemCatalog.rebuildAfterCommit();
         log.info("Item updated successfully with ID: {}", id);
 
         return itemMapper.toDto(savedItem);
@@ -99,31 +155,91 @@ public class ItemServiceImpl implements ItemService {
     public void delete(long id) {
         log.info("Deleting item with ID: {}", id);
         
-        findById(id);
+        Item item = findById(id);
 
-        itemRepo.deleteById(id);
+        itemRepo.delete(item);
+        summaryRepo.applyRemoved(item.getPrice());
+        itemCatalog.rebuildAfterCommit();
         log.info("Item deleted successfully with ID: {}", id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal calculateTotalPriceOfAllItems() {
         log.debug("Calculating total price of all items");
-        
-        List<Item> allItems = itemRepo.findAll();
 
-        BigDecimal total = allItems.stream()
-                .map(Item::getPrice)
-                .reduce(
-                        BigDecimal.ZERO,
-                        BigDecimal::add
-                );
-
-        BigDecimal result = total.setScale(2, RoundingMode.HALF_UP);
+        BigDecimal result = loadSummary().sum().setScale(2, RoundingMode.HALF_UP);
         log.debug("Total price of all items: {}", result);
         
         return result;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ItemCatalogSummaryDto getCatalogSummary(List<BigDecimal> priceBands) {
+        List<BigDecimal> bounds = priceBands == null || priceBands.isEmpty()
+                ? catalogProperties.priceBands()
+                : priceBands;
+        validatePriceBands(bounds);
+
+        PriceStatsDto summary = loadSummary();
+        BigDecimal average = summary.count() == 0
+                ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
+                : summary.sum().divide(BigDecimal.valueOf(summary.count()), 2, RoundingMode.HALF_UP);
+
+        // Bands come from the catalog snapshot in one pass instead of one query per band
+        List<PriceBandStatsDto> bands = aggregatePriceBands(getCatalog().items(), bounds);
+
+        return new ItemCatalogSummaryDto(summary.count(), summary.sum(), summary.min(), summary.max(), average, bands);
+    }
+
+    private List<PriceBandStatsDto> aggregatePriceBands(List<ItemResponseDto> items, List<BigDecimal> bounds) {
+        long[] counts = new long[bounds.size()];
+        BigDecimal[] totals = new BigDecimal[bounds.size()];
+        BigDecimal[] mins = new BigDecimal[bounds.size()];
+        BigDecimal[] maxs = new BigDecimal[bounds.size()];
+        Arrays.fill(totals, BigDecimal.ZERO);
+
+        for (ItemResponseDto item : items) {
+            int position = Collections.binarySearch(bounds, item.price());
+            int band = position >= 0 ? position : -position - 2;
+            if (band < 0) {
+                continue;
+            }
+            counts[band]++;
+            totals[band] = totals[band].add(item.price());
+            mins[band] = mins[band] == null ? item.price() : mins[band].min(item.price());
+            maxs[band] = maxs[band] == null ? item.price() : maxs[band].max(item.price());
+        }
+
+        List<PriceBandStatsDto> bands = new ArrayList<>(bounds.size());
+        for (int i = 0; i < bounds.size(); i++) {
+            BigDecimal to = i + 1 < bounds.size() ? bounds.get(i + 1) : null;
+            bands.add(new PriceBandStatsDto(bounds.get(i), to, counts[i], totals[i], mins[i], maxs[i]));
+        }
+        return bands;
+    }
+
+    private PriceStatsDto loadSummary() {
+        return summaryRepo.findById(ItemCatalogSummary.SINGLETON_ID)
+                .map(summary -> new PriceStatsDto(summary.getItemCount(), summary.getPriceSum(),
+                        summary.getMinPrice(), summary.getMaxPrice()))
+                .orElseGet(() -> {
+                    log.warn("Item catalog summary is missing, falling back to aggregate query");
+                    PriceStatsDto stats = itemRepo.aggregatePrices();
+                    return new PriceStatsDto(stats.count(), stats.sum() == null ? BigDecimal.ZERO : stats.sum(),
+                            stats.min(), stats.max());
+                });
+    }
+
+    private void validatePriceBands(List<BigDecimal> bounds) {
+        for (int i = 0; i < bounds.size(); i++) {
+            if (bounds.get(i).signum() < 0 || (i > 0 && bounds.get(i).compareTo(bounds.get(i - 1)) <= 0)) {
+                throw new IllegalArgumentException("Price bands must be non-negative and strictly increasing");
+            }
+        }
+    }
+
     private void validateNameIsUnique(String name) {
         if (itemRepo.findByName(name).isPresent()) {
             log.warn("Item with name already exists: {}", name);
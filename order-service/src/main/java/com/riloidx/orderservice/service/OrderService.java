@@ -2,35 +2,60 @@ package com.riloidx.orderservice.service;
 
 import com.riloidx.orderservice.dto.request.OrderCreateDto;
 import com.riloidx.orderservice.dto.request.OrderUpdateDto;
+import com.riloidx.orderservice.dto.response.OrderBulkCreateResponseDto;
+import com.riloidx.orderservice.dto.response.OrderCursorPageDto;
 import com.riloidx.orderservice.dto.response.OrderFullResponseDto;
 import com.riloidx.orderservice.dto.response.OrderResponseDto;
 import com.riloidx.orderservice.entity.Order;
+import com.riloidx.orderservice.enums.ExportFormat;
 import com.riloidx.orderservice.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface OrderService {
 
     OrderFullResponseDto create(OrderCreateDto orderCreateDto);
 
+    OrderBulkCreateResponseDto createAll(List<OrderCreateDto> orderCreateDtos);
+
     Page<OrderFullResponseDto> findAll(Pageable pageable,
                                              OrderStatus orderStatus,
                                              Boolean deleted,
                                              LocalDate createdAfter,
                                              LocalDate createdBefore);
 
+    OrderCursorPageDto findAllByCursor(String cursor,
+                                       int size,
+                                       OrderStatus orderStatus,
+                                       Boolean deleted,
+                                       LocalDate createdAfter,
+                                       LocalDate createdBefore);
+
+    void export(OutputStream outputStream,
+                ExportFormat format,
+                boolean enrich,
+                OrderStatus orderStatus,
+                Boolean deleted,
+                LocalDate createdAfter,
+                LocalDate createdBefore) throws IOException;
+
     Order findById(long id);
 
     OrderFullResponseDto findDtoById(long id);
 
-    List<OrderFullResponseDto> findByUserId(long userId);
+    Page<OrderFullResponseDto> findByUserId(long userId, Pageable pageable);
+
+    void streamByUserId(long userId, OutputStream outputStream) throws IOException;
 
     OrderFullResponseDto update(long id, OrderUpdateDto order);
 
-    void updateStatusFromPayment(long orderId, String paymentStatus);
+    void updateStatusesFromPayments(Map<Long, String> paymentStatuses);
 
     OrderResponseDto delete(long id);
 }
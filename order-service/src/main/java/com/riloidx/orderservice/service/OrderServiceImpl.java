@@ -1,43 +1,84 @@
 package com.riloidx.orderservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riloidx.orderservice.config.OrderExportProperties;
 import com.riloidx.orderservice.dto.request.OrderCreateDto;
 import com.riloidx.orderservice.dto.request.OrderItemDto;
 import com.riloidx.orderservice.dto.request.OrderUpdateDto;
+import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.dto.response.OrderBulkCreateResponseDto;
+import com.riloidx.orderservice.dto.response.OrderBulkResultDto;
+import com.riloidx.orderservice.dto.response.OrderCursorPageDto;
+import com.riloidx.orderservice.dto.response.OrderExportDto;
 import com.riloidx.orderservice.dto.response.OrderFullResponseDto;
 import com.riloidx.orderservice.dto.response.OrderResponseDto;
+import com.riloidx.orderservice.dto.response.UserResponseDto;
 import com.riloidx.orderservice.entity.Item;
 import com.riloidx.orderservice.entity.Order;
 import com.riloidx.orderservice.entity.OrderItem;
+import com.riloidx.orderservice.enums.ExportFormat;
 import com.riloidx.orderservice.enums.OrderStatus;
+import com.riloidx.orderservice.exception.ItemNotFoundException;
 import com.riloidx.orderservice.exception.OrderNotFoundException;
+import com.riloidx.orderservice.exception.OrderStatusTransitionException;
+import com.riloidx.orderservice.exception.OrderVersionConflictException;
 import com.riloidx.orderservice.mapper.OrderMapper;
 import com.riloidx.orderservice.repository.OrderRepository;
 import com.riloidx.orderservice.specification.OrderSpecification;
+import com.riloidx.orderservice.util.OrderCursor;
+import com.riloidx.orderservice.util.OrderExportWriter;
+import com.riloidx.orderservice.util.OrderPricing;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort CURSOR_SORT = Sort.by("createdAt").and(Sort.by("id"));
+    private static final Sort USER_ORDERS_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final OrderRepository orderRepo;
     private final ItemService itemService;
-    private final UserServiceClient userService;
+    private final UserLookupService userService;
     private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final OrderExportProperties exportProperties;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -51,6 +92,54 @@ public class OrderServiceImpl implements OrderService {
         return convertToFullDto(savedOrder);
     }
 
+    @Override
+    @Transactional
+    public OrderBulkCreateResponseDto createAll(List<OrderCreateDto> orderCreateDtos) {
+        log.info("Bulk creating {} orders", orderCreateDtos.size());
+
+        OrderBulkResultDto[] results = new OrderBulkResultDto[orderCreateDtos.size()];
+        Map<Integer, Map<Long, Integer>> validQuantities = new LinkedHashMap<>();
+
+        for (int i = 0; i < orderCreateDtos.size(); i++) {
+            List<String> errors = validate(orderCreateDtos.get(i));
+            if (errors.isEmpty()) {
+                validQuantities.put(i, mergeQuantities(orderCreateDtos.get(i).items()));
+            } else {
+                results[i] = OrderBulkResultDto.failed(i, errors);
+            }
+        }
+
+        Set<Long> itemIds = validQuantities.values().stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .collect(Collectors.toSet());
+        Map<Long, ItemResponseDto> items = itemIds.isEmpty() ? Map.of() : itemService.findExistingByIds(itemIds);
+
+        Map<Integer, Order> orders = new LinkedHashMap<>();
+        validQuantities.forEach((index, quantities) -> {
+            List<Long> missingIds = quantities.keySet().stream()
+                    .filter(itemId -> !items.containsKey(itemId))
+                    .sorted()
+                    .toList();
+            if (!missingIds.isEmpty()) {
+                String error = new ItemNotFoundException("ids", missingIds.toString()).getMessage();
+                results[index] = OrderBulkResultDto.failed(index, List.of(error));
+                return;
+            }
+
+            Order order = orderMapper.toEntity(orderCreateDtos.get(index));
+            applyOrderItems(order, quantities, items);
+            orders.put(index, order);
+        });
+
+        orderRepo.saveAll(orders.values());
+        orders.forEach((index, order) -> results[index] = OrderBulkResultDto.created(index, order.getId()));
+
+        int created = orders.size();
+        log.info("Bulk created {} of {} orders", created, orderCreateDtos.size());
+
+        return new OrderBulkCreateResponseDto(created, results.length - created, List.of(results));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<OrderFullResponseDto> findAll(Pageable pageable,
@@ -61,7 +150,69 @@ public class OrderServiceImpl implements OrderService {
         Specification<Order> spec = prepareSpecification(orderStatus, deleted, createdAfter, createdBefore);
         Page<Order> ordersPage = orderRepo.findAll(spec, pageable);
 
-        return ordersPage.map(this::convertToFullDto);
+        Map<Long, Order> ordersWithItems = fetchItems(ordersPage.getContent());
+        Map<Long, UserResponseDto> users = findUsers(ordersPage.getContent());
+
+        return ordersPage.map(order -> orderMapper.toFullDto(ordersWithItems.get(order.getId()), users.get(order.getUserId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderCursorPageDto findAllByCursor(String cursor,
+                                              int size,
+                                              OrderStatus orderStatus,
+                                              Boolean deleted,
+                                              LocalDate createdAfter,
+                                              LocalDate createdBefore) {
+        validatePageSize(size);
+
+        Specification<Order> spec = prepareSpecification(orderStatus, deleted, createdAfter, createdBefore);
+        if (cursor != null && !cursor.isBlank()) {
+            OrderCursor position = OrderCursor.decode(cursor);
+            spec = spec.and(OrderSpecification.seekAfter(position.createdAt(), position.id()));
+        }
+
+        List<Order> orders = orderRepo.findBy(spec, query -> query
+                .sortBy(CURSOR_SORT)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = orders.size() > size;
+        List<Order> pageOrders = hasNext ? orders.subList(0, size) : orders;
+        String nextCursor = hasNext ? OrderCursor.of(pageOrders.getLast()).encode() : null;
+
+        Map<Long, Order> ordersWithItems = fetchItems(pageOrders);
+        Map<Long, UserResponseDto> users = findUsers(pageOrders);
+        List<OrderFullResponseDto> content = pageOrders.stream()
+                .map(order -> orderMapper.toFullDto(ordersWithItems.get(order.getId()), users.get(order.getUserId())))
+                .toList();
+
+        return new OrderCursorPageDto(content, content.size(), nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(OutputStream outputStream,
+                       ExportFormat format,
+                       boolean enrich,
+                       OrderStatus orderStatus,
+                       Boolean deleted,
+                       LocalDate createdAfter,
+                       LocalDate createdBefore) throws IOException {
+        log.info("Exporting orders as {} (enrich={})", format, enrich);
+
+        OrderExportWriter writer = new OrderExportWriter(outputStream, format, enrich, objectMapper);
+        writer.writeHeader();
+
+        long exported;
+        try (Stream<OrderExportDto> rows = orderRepo.streamForExport(orderStatus, deleted,
+                toStartOfDay(createdAfter), toEndOfDay(createdBefore))) {
+            exported = writeInChunks(rows, chunk -> writeChunk(writer, chunk, enrich));
+        }
+        // The header alone is still buffered when no rows matched
+        writer.flush();
+
+        log.info("Exported {} orders", exported);
     }
 
     @Override
@@ -74,21 +225,40 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public OrderFullResponseDto findDtoById(long id) {
-        return convertToFullDto(findById(id));
+        Order order = orderRepo.findWithItemsById(id)
+                .orElseThrow(() -> new OrderNotFoundException("id", String.valueOf(id)));
+        return convertToFullDto(order);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderFullResponseDto> findByUserId(long userId) {
-        log.debug("Fetching all orders for user ID: {}", userId);
+    public Page<OrderFullResponseDto> findByUserId(long userId, Pageable pageable) {
+        log.debug("Fetching orders page {} for user ID: {}", pageable.getPageNumber(), userId);
+        validatePageSize(pageable.getPageSize());
 
-        List<Order> orders = orderRepo.findAllByUserId(userId);
+        Page<Order> ordersPage = orderRepo.findByUserId(userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), USER_ORDERS_SORT));
+        Map<Long, Order> ordersWithItems = fetchItems(ordersPage.getContent());
 
         var userDto = userService.getUserById(userId);
 
-        return orders.stream()
-                .map(order -> orderMapper.toFullDto(order, userDto))
-                .toList();
+        return ordersPage.map(order -> orderMapper.toFullDto(ordersWithItems.get(order.getId()), userDto));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByUserId(long userId, OutputStream outputStream) throws IOException {
+        log.info("Streaming orders for user ID: {}", userId);
+
+        var userDto = userService.getUserById(userId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        long streamed;
+        try (Stream<Long> ids = orderRepo.streamIdsByUserId(userId)) {
+            streamed = writeInChunks(ids, chunk -> writeUserOrdersChunk(writer, chunk, userDto));
+        }
+
+        log.info("Streamed {} orders for user ID: {}", streamed, userId);
     }
 
     @Override
@@ -96,6 +266,8 @@ public class OrderServiceImpl implements OrderService {
     public OrderFullResponseDto update(long id, OrderUpdateDto orderUpdateDto) {
         Order curOrder = findById(id);
         validateOrderNotDeleted(curOrder);
+        validateVersion(curOrder, orderUpdateDto.version());
+        validateStatusTransition(curOrder, orderUpdateDto.status());
 
         orderMapper.updateEntityFromDto(orderUpdateDto, curOrder);
         processOrderItems(curOrder, orderUpdateDto.items());
@@ -105,10 +277,28 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional
-    public void updateStatusFromPayment(long orderId, String paymentStatus) {
-        Order order = findById(orderId);
-        order.setStatus("SUCCESS".equals(paymentStatus) ? OrderStatus.CONFIRMED : OrderStatus.CANCELED);
-        orderRepo.save(order);
+    public void updateStatusesFromPayments(Map<Long, String> paymentStatuses) {
+        if (paymentStatuses.isEmpty()) {
+            return;
+        }
+
+        Map<Long, OrderStatus> statuses = new LinkedHashMap<>();
+        paymentStatuses.forEach((orderId, paymentStatus) -> statuses.put(orderId, toOrderStatus(paymentStatus)));
+
+        Set<Long> skipped = orderRepo.transitionPendingStatuses(statuses);
+        log.debug("Updated status of {} orders from {} payment events", statuses.size() - skipped.size(), statuses.size());
+        if (skipped.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existing = orderRepo.findExistingIds(skipped);
+        List<Long> missing = skipped.stream().filter(orderId -> !existing.contains(orderId)).sorted().toList();
+        if (!missing.isEmpty()) {
+            // Rolls the batch back so the events are not marked processed and go to the retry topics
+            log.warn("Payment events reference unknown orders with IDs: {}", missing);
+            throw new OrderNotFoundException("ids", missing.toString());
+        }
+        log.info("Orders with IDs: {} are no longer pending, payment statuses ignored", existing);
     }
 
     @Override
@@ -124,24 +314,140 @@ public class OrderServiceImpl implements OrderService {
     private void processOrderItems(Order order, List<OrderItemDto> itemsDto) {
         log.debug("Processing {} order items", itemsDto.size());
 
-        order.getOrderItems().clear();
-        BigDecimal totalPrice = BigDecimal.ZERO;
+        Map<Long, Integer> quantities = mergeQuantities(itemsDto);
+        Map<Long, ItemResponseDto> items = itemService.findAllByIds(quantities.keySet());
 
-        for (OrderItemDto itemDto : itemsDto) {
-            Item realItem = itemService.findById(itemDto.itemId());
-            BigDecimal subTotal = realItem.getPrice().multiply(BigDecimal.valueOf(itemDto.quantity()));
-            totalPrice = totalPrice.add(subTotal);
+        applyOrderItems(order, quantities, items);
+    }
+
+    private void applyOrderItems(Order order, Map<Long, Integer> quantities, Map<Long, ItemResponseDto> items) {
+        Map<Long, OrderItem> existingLines = new HashMap<>();
+        order.getOrderItems().removeIf(orderItem -> {
+            Long itemId = orderItem.getItem().getId();
+            return !quantities.containsKey(itemId) || existingLines.putIfAbsent(itemId, orderItem) != null;
+        });
+
+        BigDecimal[] unitPrices = new BigDecimal[quantities.size()];
+        int[] lineQuantities = new int[quantities.size()];
+        int line = 0;
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            ItemResponseDto realItem = items.get(entry.getKey());
+            unitPrices[line] = realItem.price();
+            lineQuantities[line++] = entry.getValue();
 
-            OrderItem orderItem = new OrderItem();
-            orderItem.setOrder(order);
-            orderItem.setItem(realItem);
-            orderItem.setQuantity(itemDto.quantity());
-            order.getOrderItems().add(orderItem);
+            OrderItem orderItem = existingLines.get(entry.getKey());
+            if (orderItem == null) {
+                orderItem = new OrderItem();
+                orderItem.setOrder(order);
+                orderItem.setItem(toItemReference(realItem));
+                order.getOrderItems().add(orderItem);
+            }
+            orderItem.setQuantity(entry.getValue());
         }
-        order.setTotalPrice(totalPrice.setScale(2, RoundingMode.HALF_UP));
+        BigDecimal totalPrice = OrderPricing.total(unitPrices, lineQuantities, line);
+        order.setTotalPrice(totalPrice);
         log.debug("Order total price calculated: {}", totalPrice);
     }
 
+    private Item toItemReference(ItemResponseDto dto) {
+        Item item = new Item();
+        item.setId(dto.id());
+        item.setName(dto.name());
+        item.setPrice(dto.price());
+        return item;
+    }
+
+    private List<String> validate(OrderCreateDto orderCreateDto) {
+        if (orderCreateDto == null) {
+            return List.of("Order must not be null");
+        }
+        return validator.validate(orderCreateDto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private Map<Long, Integer> mergeQuantities(List<OrderItemDto> itemsDto) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemDto itemDto : itemsDto) {
+            quantities.merge(itemDto.itemId(), itemDto.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private <T> long writeInChunks(Stream<T> rows, ChunkWriter<T> chunkWriter) throws IOException {
+        List<T> chunk = new ArrayList<>(exportProperties.chunkSize());
+        long written = 0;
+
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == exportProperties.chunkSize() || !iterator.hasNext()) {
+                chunkWriter.write(chunk);
+                written += chunk.size();
+                chunk.clear();
+            }
+        }
+        return written;
+    }
+
+    private void writeChunk(OrderExportWriter writer, List<OrderExportDto> chunk, boolean enrich) throws IOException {
+        Map<Long, UserResponseDto> users = enrich
+                ? userService.getUsersByIds(chunk.stream().map(OrderExportDto::userId).collect(Collectors.toSet()))
+                : Map.of();
+
+        for (OrderExportDto row : chunk) {
+            writer.write(enrich ? row.withUser(users.get(row.userId())) : row);
+        }
+        writer.flush();
+    }
+
+    private void writeUserOrdersChunk(Writer writer, List<Long> chunk, UserResponseDto userDto) throws IOException {
+        Map<Long, Order> orders = orderRepo.findAllWithItemsByIdIn(chunk).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        for (Long id : chunk) {
+            writer.write(objectMapper.writeValueAsString(orderMapper.toFullDto(orders.get(id), userDto)));
+            writer.write('\n');
+        }
+        writer.flush();
+        entityManager.clear();
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private Map<Long, Order> fetchItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = orders.stream()
+                .map(Order::getId)
+                .toList();
+
+        return orderRepo.findAllWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+    }
+
+    private Map<Long, UserResponseDto> findUsers(List<Order> orders) {
+        Set<Long> userIds = orders.stream()
+                .map(Order::getUserId)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        log.debug("Fetching {} users for {} orders", userIds.size(), orders.size());
+
+        return userService.getUsersByIds(userIds);
+    }
+
+    private OrderStatus toOrderStatus(String paymentStatus) {
+        return "SUCCESS".equals(paymentStatus) ? OrderStatus.CONFIRMED : OrderStatus.CANCELED;
+    }
+
     private OrderFullResponseDto convertToFullDto(Order order) {
         var userDto = userService.getUserById(order.getUserId());
         return orderMapper.toFullDto(order, userDto);
@@ -154,6 +460,20 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    private void validateVersion(Order order, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            log.warn("Version conflict on order with ID: {}", order.getId());
+            throw new OrderVersionConflictException(order.getId(), expectedVersion, order.getVersion());
+        }
+    }
+
+    private void validateStatusTransition(Order order, OrderStatus target) {
+        if (target != null && !order.getStatus().canTransitionTo(target)) {
+            log.warn("Rejected status change of order with ID: {} from {} to {}", order.getId(), order.getStatus(), target);
+            throw new OrderStatusTransitionException(order.getStatus(), target);
+        }
+    }
+
     private Specification<Order> prepareSpecification(OrderStatus status,
                                                       Boolean deleted,
                                                       LocalDate createdAfter,
@@ -167,13 +487,24 @@ public class OrderServiceImpl implements OrderService {
             spec = spec.and(OrderSpecification.isDeleted(deleted));
         }
         if (createdAfter != null) {
-            Instant afterInstant = createdAfter.atStartOfDay(ZoneId.systemDefault()).toInstant();
-            spec = spec.and(OrderSpecification.createdAfter(afterInstant));
+            spec = spec.and(OrderSpecification.createdAfter(toStartOfDay(createdAfter)));
         }
         if (createdBefore != null) {
-            Instant beforeInstant = createdBefore.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant();
-            spec = spec.and(OrderSpecification.createdBefore(beforeInstant));
+            spec = spec.and(OrderSpecification.createdBefore(toEndOfDay(createdBefore)));
         }
         return spec;
     }
+
+    private Instant toStartOfDay(LocalDate date) {
+        return date == null ? null : date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private Instant toEndOfDay(LocalDate date) {
+        return date == null ? null : date.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<T> chunk) throws IOException;
+    }
 }
\ No newline at end of file
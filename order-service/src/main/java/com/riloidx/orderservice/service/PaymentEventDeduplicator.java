@@ -0,0 +1,72 @@
+package com.riloidx.orderservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class PaymentEventDeduplicator {
+
+    private final Cache<String, Boolean> recentEventIds;
+    private final PaymentEventService paymentEventService;
+    private final Counter duplicates;
+
+    public PaymentEventDeduplicator(PaymentEventsProperties properties,
+                                    PaymentEventService paymentEventService,
+                                    MeterRegistry meterRegistry) {
+        this.recentEventIds = Caffeine.newBuilder()
+                .maximumSize(properties.recentEventIdsSize())
+                .build();
+        this.paymentEventService = paymentEventService;
+        this.duplicates = Counter.builder("payment.events.duplicates")
+                .description("Payment events dropped by the in-memory recent-id filter")
+                .register(meterRegistry);
+    }
+
+    public void process(List<PaymentEvent> paymentEvents) {
+        List<PaymentEvent> fresh = dropRecent(paymentEvents);
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        Set<String> handled = paymentEventService.process(fresh);
+        remember(handled);
+    }
+
+    private List<PaymentEvent> dropRecent(List<PaymentEvent> paymentEvents) {
+        List<PaymentEvent> fresh = new ArrayList<>(paymentEvents.size());
+        Set<String> seenInBatch = new HashSet<>();
+
+        for (PaymentEvent event : paymentEvents) {
+            String eventId = event.eventId();
+            if (eventId == null) {
+                fresh.add(event);
+            } else if (recentEventIds.getIfPresent(eventId) == null && seenInBatch.add(eventId)) {
+                fresh.add(event);
+            }
+        }
+
+        int dropped = paymentEvents.size() - fresh.size();
+        if (dropped > 0) {
+            duplicates.increment(dropped);
+            log.debug("Dropped {} duplicate payment events", dropped);
+        }
+        return fresh;
+    }
+
+    private void remember(Collection<String> eventIds) {
+        eventIds.forEach(eventId -> recentEventIds.put(eventId, Boolean.TRUE));
+    }
+}
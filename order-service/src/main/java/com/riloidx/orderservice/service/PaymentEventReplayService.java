@@ -0,0 +1,129 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.config.PaymentEventsKafkaConfig;
+import com.riloidx.orderservice.dto.response.DltReplayResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentEventReplayService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int MAX_RECORDS = 10_000;
+
+    private static final String REPLAY_GROUP_ID = "order-group-dlt-replay";
+    private static final String RETRY_TOPIC_HEADER_PREFIX = "retry_topic-";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ConsumerFactory<?, ?> consumerFactory;
+    private final KafkaTemplate<String, Object> paymentEventsKafkaTemplate;
+
+    // Dead letters are copied back to the main topic as raw bytes and their offsets are committed per batch,
+    // so a replay that stops halfway resumes after the last batch that was fully sent.
+    public synchronized DltReplayResponseDto replayDeadLetters(int batchSize, int maxRecords) {
+        validateLimits(batchSize, maxRecords);
+
+        int replayed = 0;
+        int batches = 0;
+        try (Consumer<String, byte[]> consumer = createConsumer(batchSize)) {
+            List<TopicPartition> partitions = dltPartitions(consumer);
+            if (partitions.isEmpty()) {
+                return new DltReplayResponseDto(0, 0);
+            }
+            consumer.assign(partitions);
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed + sends.size() == maxRecords) {
+                        break;
+                    }
+                    sends.add(paymentEventsKafkaTemplate.send(toReplay(record)));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                consumer.commitSync(offsets);
+                replayed += sends.size();
+                batches++;
+            }
+        }
+
+        log.info("Replayed {} dead-lettered payment events in {} batches", replayed, batches);
+        return new DltReplayResponseDto(replayed, batches);
+    }
+
+    private void validateLimits(int batchSize, int maxRecords) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (maxRecords < 1 || maxRecords > MAX_RECORDS) {
+            throw new IllegalArgumentException("Max records must be between 1 and " + MAX_RECORDS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<String, byte[]> createConsumer(int batchSize) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return (Consumer<String, byte[]>) consumerFactory.createConsumer(REPLAY_GROUP_ID, null, null, overrides);
+    }
+
+    private List<TopicPartition> dltPartitions(Consumer<String, byte[]> consumer) {
+        List<PartitionInfo> partitions = consumer.partitionsFor(PaymentEventsKafkaConfig.DLT_TOPIC);
+        if (partitions == null) {
+            return List.of();
+        }
+        return partitions.stream()
+                .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                .toList();
+    }
+
+    private ProducerRecord<String, Object> toReplay(ConsumerRecord<String, byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(KafkaHeaders.PREFIX) && !header.key().startsWith(RETRY_TOPIC_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(PaymentEventsKafkaConfig.PAYMENT_EVENTS_TOPIC, null, record.key(), record.value(),
+                headers);
+    }
+}
@@ -0,0 +1,11 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+
+import java.util.List;
+import java.util.Set;
+
+public interface PaymentEventService {
+
+    Set<String> process(List<PaymentEvent> paymentEvents);
+}
@@ -0,0 +1,62 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.entity.ProcessedPaymentEvent;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.repository.ProcessedPaymentEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentEventServiceImpl implements PaymentEventService {
+
+    private final ProcessedPaymentEventRepository processedEventRepo;
+    private final OrderService orderService;
+
+    @Override
+    @Transactional
+    public Set<String> process(List<PaymentEvent> paymentEvents) {
+        Set<String> eventIds = paymentEvents.stream()
+                .map(PaymentEvent::eventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> alreadyProcessed = eventIds.isEmpty() ? Set.of() : processedEventRepo.findProcessedIds(eventIds);
+
+        Map<Long, String> paymentStatuses = new LinkedHashMap<>();
+        Map<String, ProcessedPaymentEvent> processedEvents = new LinkedHashMap<>();
+        Instant now = Instant.now();
+
+        for (PaymentEvent event : paymentEvents) {
+            if (event.eventId() != null && alreadyProcessed.contains(event.eventId())) {
+                continue;
+            }
+            paymentStatuses.putIfAbsent(event.orderId(), event.status());
+            if (event.eventId() != null) {
+                processedEvents.putIfAbsent(event.eventId(), new ProcessedPaymentEvent(event.eventId(), event.orderId(), now));
+            }
+        }
+
+        if (!alreadyProcessed.isEmpty()) {
+            log.info("Skipping {} already processed payment events", alreadyProcessed.size());
+        }
+
+        orderService.updateStatusesFromPayments(paymentStatuses);
+        processedEventRepo.saveAll(processedEvents.values());
+
+        Set<String> handled = new HashSet<>(alreadyProcessed);
+        handled.addAll(processedEvents.keySet());
+        return handled;
+    }
+}
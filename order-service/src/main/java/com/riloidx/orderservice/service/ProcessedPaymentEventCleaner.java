@@ -0,0 +1,38 @@
+package com.riloidx.orderservice.service;
+
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.repository.ProcessedPaymentEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedPaymentEventCleaner {
+
+    private final ProcessedPaymentEventRepository processedEventRepo;
+    private final PaymentEventsProperties properties;
+
+    // Once an event is past the topic retention it can no longer be redelivered, so its dedup record is dead weight
+    @Scheduled(cron = "${kafka.payment-events.cleanup-cron:0 30 3 * * *}")
+    public void deleteExpired() {
+        Instant cutoff = Instant.now().minus(properties.processedRetention());
+        int batchSize = properties.cleanupBatchSize();
+        long deleted = 0;
+        try {
+            int removed;
+            do {
+                removed = processedEventRepo.deleteProcessedBefore(cutoff, batchSize);
+                deleted += removed;
+            } while (removed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Processed payment events cleanup failed after {} rows: {}", deleted, e.getMessage());
+            return;
+        }
+        log.info("Deleted {} processed payment events older than {}", deleted, cutoff);
+    }
+}
@@ -0,0 +1,181 @@
+package com.riloidx.orderservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.riloidx.orderservice.dto.request.UserBatchRequestDto;
+import com.riloidx.orderservice.dto.response.UserResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Service
+public class UserLookupService {
+
+    // user-service accepts at most this many ids per batch request
+    private static final int USER_BATCH_SIZE = 1000;
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<Long, UserResponseDto> userCache;
+    private final Cache<Long, UserResponseDto> lastKnownUserCache;
+    private final Set<Long> staleUserIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Long, CompletableFuture<UserResponseDto>> inFlightLookups = new ConcurrentHashMap<>();
+    private final Counter coalescedLookups;
+
+    public UserLookupService(UserServiceClient userServiceClient,
+                             @Qualifier("userCache") Cache<Long, UserResponseDto> userCache,
+                             @Qualifier("lastKnownUserCache") Cache<Long, UserResponseDto> lastKnownUserCache,
+                             MeterRegistry meterRegistry) {
+        this.userServiceClient = userServiceClient;
+        this.userCache = userCache;
+        this.lastKnownUserCache = lastKnownUserCache;
+        this.coalescedLookups = Counter.builder("user.lookup.coalesced")
+                .description("User lookups that joined an in-flight call to user-service")
+                .register(meterRegistry);
+        Gauge.builder("user.lookup.in-flight", inFlightLookups, Map::size)
+                .description("User ids with a call to user-service in progress")
+                .register(meterRegistry);
+    }
+
+    public UserResponseDto getUserById(long id) {
+        UserResponseDto cached = userCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<UserResponseDto> call = new CompletableFuture<>();
+        CompletableFuture<UserResponseDto> inFlight = inFlightLookups.putIfAbsent(id, call);
+        if (inFlight != null) {
+            coalescedLookups.increment();
+            return await(inFlight);
+        }
+
+        try {
+            UserResponseDto user = resolve(userServiceClient.getUserById(id));
+            call.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(id, call);
+        }
+    }
+
+    public Map<Long, UserResponseDto> getUsersByIds(Collection<Long> ids) {
+        Map<Long, UserResponseDto> users = new HashMap<>(userCache.getAllPresent(ids));
+
+        Map<Long, CompletableFuture<UserResponseDto>> ownedCalls = new HashMap<>();
+        Map<Long, CompletableFuture<UserResponseDto>> joinedCalls = new HashMap<>();
+        ids.stream()
+                .distinct()
+                .filter(id -> !users.containsKey(id))
+                .forEach(id -> {
+                    CompletableFuture<UserResponseDto> call = new CompletableFuture<>();
+                    CompletableFuture<UserResponseDto> inFlight = inFlightLookups.putIfAbsent(id, call);
+                    if (inFlight == null) {
+                        ownedCalls.put(id, call);
+                    } else {
+                        joinedCalls.put(id, inFlight);
+                    }
+                });
+        coalescedLookups.increment(joinedCalls.size());
+
+        if (!ownedCalls.isEmpty()) {
+            log.debug("User cache missed {} of {} users, fetching from user-service", ownedCalls.size(), ids.size());
+            try {
+                fetchUsers(List.copyOf(ownedCalls.keySet()), users);
+                ownedCalls.forEach((id, call) -> call.complete(users.get(id)));
+            } catch (RuntimeException e) {
+                ownedCalls.values().forEach(call -> call.completeExceptionally(e));
+                throw e;
+            } finally {
+                ownedCalls.forEach(inFlightLookups::remove);
+            }
+        }
+
+        joinedCalls.forEach((id, call) -> users.put(id, awaitOrUnknown(id, call)));
+
+        return users;
+    }
+
+    public void evict(long id) {
+        log.debug("Evicting user ID: {} from user cache", id);
+        userCache.invalidate(id);
+        lastKnownUserCache.invalidate(id);
+        staleUserIds.remove(id);
+    }
+
+    public void refreshStaleUsers() {
+        List<Long> ids = List.copyOf(staleUserIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        log.info("Refreshing {} users served from last known copies", ids.size());
+
+        for (int from = 0; from < ids.size(); from += USER_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + USER_BATCH_SIZE, ids.size()));
+            userServiceClient.getUsersByIds(new UserBatchRequestDto(chunk)).forEach(this::resolve);
+        }
+    }
+
+    private void fetchUsers(List<Long> ids, Map<Long, UserResponseDto> users) {
+        for (int from = 0; from < ids.size(); from += USER_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + USER_BATCH_SIZE, ids.size()));
+            for (UserResponseDto user : userServiceClient.getUsersByIds(new UserBatchRequestDto(chunk))) {
+                users.put(user.id(), resolve(user));
+            }
+        }
+        ids.forEach(id -> users.computeIfAbsent(id, UserResponseDto::unknown));
+    }
+
+    private UserResponseDto resolve(UserResponseDto user) {
+        if (!UserResponseDto.unknown(user.id()).equals(user)) {
+            userCache.put(user.id(), user);
+            lastKnownUserCache.put(user.id(), user);
+            staleUserIds.remove(user.id());
+            return user;
+        }
+
+        UserResponseDto lastKnown = lastKnownUserCache.getIfPresent(user.id());
+        if (lastKnown == null) {
+            return user;
+        }
+        log.debug("user-service unavailable, serving last known copy of user ID: {}", user.id());
+        staleUserIds.add(user.id());
+
+        return lastKnown.asStale();
+    }
+
+    private UserResponseDto await(CompletableFuture<UserResponseDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private UserResponseDto awaitOrUnknown(Long id, CompletableFuture<UserResponseDto> call) {
+        try {
+            return await(call);
+        } catch (RuntimeException e) {
+            log.debug("Joined lookup for user ID: {} failed: {}", id, e.getMessage());
+            return UserResponseDto.unknown(id);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.riloidx.orderservice.service;
 
 import com.riloidx.orderservice.config.FeignConfig;
+import com.riloidx.orderservice.dto.request.UserBatchRequestDto;
 import com.riloidx.orderservice.dto.response.UserResponseDto;
 import com.riloidx.orderservice.exception.ExternalUserNotFoundException;
 import feign.FeignException;
@@ -8,6 +9,10 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${integration.user-service.url}", configuration = FeignConfig.class)
 public interface UserServiceClient {
@@ -16,10 +21,20 @@ public interface UserServiceClient {
     @CircuitBreaker(name = "userService", fallbackMethod = "fallbackUser")
     UserResponseDto getUserById(@PathVariable("id") long id);
 
+    @PostMapping("/api/users/batch")
+    @CircuitBreaker(name = "userService", fallbackMethod = "fallbackUsers")
+    List<UserResponseDto> getUsersByIds(@RequestBody UserBatchRequestDto request);
+
     default UserResponseDto fallbackUser(long id, Throwable ex) {
         if (ex instanceof FeignException.NotFound) {
             throw new ExternalUserNotFoundException("id", String.valueOf(id));
         }
-        return new UserResponseDto(id, "unknown", "Unknown", "unavailable");
+        return UserResponseDto.unknown(id);
+    }
+
+    default List<UserResponseDto> fallbackUsers(UserBatchRequestDto request, Throwable ex) {
+        return request.ids().stream()
+                .map(UserResponseDto::unknown)
+                .toList();
     }
 }
@@ -0,0 +1,40 @@
+package com.riloidx.orderservice.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStaleRefresher {
+
+    private static final String CIRCUIT_BREAKER_NAME = "userService";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final UserLookupService userLookupService;
+    private final TaskExecutor taskExecutor;
+
+    @PostConstruct
+    void registerStateListener() {
+        circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME).getEventPublisher()
+                .onStateTransition(event -> {
+                    if (event.getStateTransition().getToState() == CircuitBreaker.State.HALF_OPEN) {
+                        log.info("Circuit breaker {} is half-open, scheduling stale users refresh", CIRCUIT_BREAKER_NAME);
+                        taskExecutor.execute(this::refresh);
+                    }
+                });
+    }
+
+    private void refresh() {
+        try {
+            userLookupService.refreshStaleUsers();
+        } catch (RuntimeException e) {
+            log.warn("Stale users refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -27,4 +27,15 @@ public class OrderSpecification {
         return (root, query, cb) ->
                 cb.lessThanOrEqualTo(root.get("createdAt"), toDate);
     }
+
+    public static Specification<Order> seekAfter(Instant createdAt, Long id) {
+        return (root, query, cb) ->
+                cb.or(
+                        cb.greaterThan(root.get("createdAt"), createdAt),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), createdAt),
+                                cb.greaterThan(root.get("id"), id)
+                        )
+                );
+    }
 }
\ No newline at end of file
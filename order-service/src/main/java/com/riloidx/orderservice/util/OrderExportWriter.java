@@ -0,0 +1,80 @@
+package com.riloidx.orderservice.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riloidx.orderservice.dto.response.OrderExportDto;
+import com.riloidx.orderservice.dto.response.UserResponseDto;
+import com.riloidx.orderservice.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class OrderExportWriter {
+
+    private static final List<String> ORDER_COLUMNS =
+            List.of("id", "userId", "status", "deleted", "totalPrice", "createdAt");
+    private static final List<String> USER_COLUMNS =
+            List.of("userName", "userSurname", "userEmail");
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final boolean enrich;
+    private final ObjectMapper objectMapper;
+
+    public OrderExportWriter(OutputStream outputStream, ExportFormat format, boolean enrich, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.enrich = enrich;
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            List<String> columns = enrich
+                    ? Stream.concat(ORDER_COLUMNS.stream(), USER_COLUMNS.stream()).toList()
+                    : ORDER_COLUMNS;
+            writer.write(String.join(",", columns));
+            writer.write('\n');
+        }
+    }
+
+    public void write(OrderExportDto row) throws IOException {
+        switch (format) {
+            case NDJSON -> writer.write(objectMapper.writeValueAsString(row));
+            case CSV -> writer.write(toCsv(row));
+        }
+        writer.write('\n');
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private String toCsv(OrderExportDto row) {
+        Stream<Object> values = Stream.of(row.id(), row.userId(), row.status(), row.deleted(),
+                row.totalPrice(), row.createdAt());
+        if (enrich) {
+            UserResponseDto user = row.user();
+            values = Stream.concat(values, user == null
+                    ? Stream.of("", "", "")
+                    : Stream.of(user.name(), user.surname(), user.email()));
+        }
+        return values
+                .map(value -> escapeCsv(Objects.toString(value, "")))
+                .collect(Collectors.joining(","));
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,51 @@
+package com.riloidx.orderservice.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class OrderPricing {
+
+    public static final int SCALE = 2;
+
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+    private static final int MAX_FAST_INTEGER_DIGITS = 13;
+    private static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private OrderPricing() {
+    }
+
+    public static BigDecimal total(BigDecimal[] unitPrices, int[] quantities, int lines) {
+        long totalMinorUnits = 0;
+
+        for (int i = 0; i < lines; i++) {
+            long unitMinorUnits = toMinorUnits(unitPrices[i]);
+            if (unitMinorUnits == NOT_REPRESENTABLE) {
+                return totalExact(unitPrices, quantities, lines);
+            }
+            try {
+                totalMinorUnits = Math.addExact(totalMinorUnits, Math.multiplyExact(unitMinorUnits, quantities[i]));
+            } catch (ArithmeticException e) {
+                return totalExact(unitPrices, quantities, lines);
+            }
+        }
+
+        return BigDecimal.valueOf(totalMinorUnits, SCALE);
+    }
+
+    public static BigDecimal totalExact(BigDecimal[] unitPrices, int[] quantities, int lines) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.add(unitPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    // Prices with at most two decimals and thirteen integer digits are below 2^50 minor units, so
+    // the correctly rounded double is within a quarter of a minor unit and rounds back exactly.
+    static long toMinorUnits(BigDecimal price) {
+        if (price.scale() > SCALE || price.precision() - price.scale() > MAX_FAST_INTEGER_DIGITS) {
+            return NOT_REPRESENTABLE;
+        }
+        return Math.round(price.doubleValue() * MINOR_UNITS_PER_UNIT);
+    }
+}
@@ -16,7 +16,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
         webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
         properties = {
                 "integration.user-service.url=http://localhost:${wiremock.server.port}",
-                "spring.kafka.listener.auto-startup=false"
+                "spring.kafka.listener.auto-startup=false",
+                "kafka.payment-events.retry.auto-create-topics=false"
         }
 )
 @AutoConfigureMockMvc
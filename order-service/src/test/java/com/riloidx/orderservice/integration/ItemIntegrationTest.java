@@ -1,10 +1,12 @@
 package com.riloidx.orderservice.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.riloidx.orderservice.dto.request.ItemCreateDto;
 import com.riloidx.orderservice.dto.request.ItemUpdateDto;
 import com.riloidx.orderservice.entity.Item;
 import com.riloidx.orderservice.repository.ItemRepository;
+import com.riloidx.orderservice.service.ItemCatalog;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +16,11 @@ import org.springframework.test.annotation.DirtiesContext;
 import java.math.BigDecimal;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -25,6 +30,9 @@ class ItemIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private ItemCatalog itemCatalog;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -42,6 +50,8 @@ class ItemIntegrationTest extends BaseIntegrationTest {
         laptop.setName("MacBook Pro");
         laptop.setPrice(BigDecimal.valueOf(2500.00));
         laptopItem = itemRepository.save(laptop);
+
+        itemCatalog.rebuild();
     }
 
     @AfterEach
@@ -73,6 +83,29 @@ class ItemIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[0].name", is(notNullValue())));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenCatalogIsUnchanged() throws Exception {
+        String etag = mockMvc.perform(get("/orders/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/orders/items")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/orders/items")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ItemCreateDto("Keyboard", BigDecimal.valueOf(80.00)))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/orders/items")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[2].name", is("Keyboard")));
+    }
+
     @Test
     void shouldFindItemById() throws Exception {
         mockMvc.perform(get("/orders/items/{id}", phoneItem.getId())
@@ -117,4 +150,52 @@ class ItemIntegrationTest extends BaseIntegrationTest {
                         .contentType(APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldMaintainCatalogSummaryOnCreateAndDelete() throws Exception {
+        long countBefore = readSummary().get("count").asLong();
+
+        String created = mockMvc.perform(post("/orders/items")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ItemCreateDto("Summary Cable", BigDecimal.valueOf(0.01)))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long createdId = objectMapper.readTree(created).get("id").asLong();
+
+        JsonNode afterCreate = readSummary();
+        assertEquals(countBefore + 1, afterCreate.get("count").asLong());
+        assertEquals(0, new BigDecimal("0.01").compareTo(afterCreate.get("min").decimalValue()));
+
+        mockMvc.perform(delete("/orders/items/{id}", createdId))
+                .andExpect(status().isNoContent());
+
+        JsonNode afterDelete = readSummary();
+        assertEquals(countBefore, afterDelete.get("count").asLong());
+        assertTrue(afterDelete.get("min").isNull()
+                || afterDelete.get("min").decimalValue().compareTo(new BigDecimal("0.01")) > 0);
+    }
+
+    @Test
+    void shouldReturnPriceBandStatistics() throws Exception {
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> !item.getId().equals(phoneItem.getId()) && !item.getId().equals(laptopItem.getId()))
+                .toList());
+        itemCatalog.rebuild();
+
+        mockMvc.perform(get("/orders/items/summary")
+                        .param("bands", "0", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bands", hasSize(2)))
+                .andExpect(jsonPath("$.bands[0].count", is(1)))
+                .andExpect(jsonPath("$.bands[0].max", is(999.99)))
+                .andExpect(jsonPath("$.bands[1].count", is(1)))
+                .andExpect(jsonPath("$.bands[1].min", is(2500.00)));
+    }
+
+    private JsonNode readSummary() throws Exception {
+        String body = mockMvc.perform(get("/orders/items/summary"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
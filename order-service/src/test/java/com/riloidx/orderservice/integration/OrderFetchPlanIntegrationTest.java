@@ -0,0 +1,148 @@
+package com.riloidx.orderservice.integration;
+
+import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.entity.Order;
+import com.riloidx.orderservice.entity.OrderItem;
+import com.riloidx.orderservice.enums.OrderStatus;
+import com.riloidx.orderservice.repository.ItemRepository;
+import com.riloidx.orderservice.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderFetchPlanIntegrationTest extends BaseIntegrationTest {
+
+    private static final int ORDERS = 10;
+    private static final int LINES_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            Item item = new Item();
+            item.setName("Fetch plan item " + i);
+            item.setPrice(BigDecimal.TEN);
+            items.add(itemRepository.save(item));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setUserId(1L);
+            order.setStatus(OrderStatus.PENDING);
+            order.setDeleted(false);
+            order.setTotalPrice(BigDecimal.valueOf(30));
+            for (Item item : items) {
+                OrderItem orderItem = new OrderItem();
+                orderItem.setOrder(order);
+                orderItem.setItem(item);
+                orderItem.setQuantity(1);
+                order.getOrderItems().add(orderItem);
+            }
+            orderRepository.save(order);
+        }
+
+        stubFor(get(urlPathMatching("/api/users/.*"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withStatus(200)
+                        .withBody("""
+                            {"id": 1, "name": "Alice", "surname": "Smith", "email": "alice@test.com"}
+                            """)));
+        stubFor(post(urlPathEqualTo("/api/users/batch"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withStatus(200)
+                        .withBody("""
+                            [{"id": 1, "name": "Alice", "surname": "Smith", "email": "alice@test.com"}]
+                            """)));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    void findAllShouldUseBoundedNumberOfStatementsPerPage() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders").param("size", String.valueOf(ORDERS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(ORDERS)))
+                .andExpect(jsonPath("$.content[0].orderItems", hasSize(LINES_PER_ORDER)));
+
+        assertStatementsAtMost(3);
+    }
+
+    @Test
+    void findAllByCursorShouldUseBoundedNumberOfStatementsPerPage() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders/cursor").param("size", String.valueOf(ORDERS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(ORDERS)))
+                .andExpect(jsonPath("$.content[0].orderItems", hasSize(LINES_PER_ORDER)));
+
+        assertStatementsAtMost(2);
+    }
+
+    @Test
+    void findByUserIdShouldUseBoundedNumberOfStatementsPerPage() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders/user/{userId}", 1L).param("size", String.valueOf(ORDERS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(ORDERS)))
+                .andExpect(jsonPath("$.content[0].orderItems", hasSize(LINES_PER_ORDER)));
+
+        assertStatementsAtMost(3);
+    }
+
+    @Test
+    void findByIdShouldLoadOrderWithItemsInSingleStatement() throws Exception {
+        Long id = orderRepository.findAll().getFirst().getId();
+        statistics.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderItems", hasSize(LINES_PER_ORDER)));
+
+        assertStatementsAtMost(1);
+    }
+
+    private void assertStatementsAtMost(long expected) {
+        long executed = statistics.getPrepareStatementCount();
+        assertTrue(executed <= expected, "Expected at most " + expected + " statements but was " + executed);
+    }
+}
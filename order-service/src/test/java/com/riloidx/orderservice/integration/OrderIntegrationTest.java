@@ -1,33 +1,44 @@
 package com.riloidx.orderservice.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riloidx.orderservice.dto.request.OrderBulkCreateDto;
 import com.riloidx.orderservice.dto.request.OrderCreateDto;
 import com.riloidx.orderservice.dto.request.OrderItemDto;
 import com.riloidx.orderservice.dto.request.OrderUpdateDto;
 import com.riloidx.orderservice.entity.Item;
 import com.riloidx.orderservice.entity.Order;
 import com.riloidx.orderservice.enums.OrderStatus;
+import com.riloidx.orderservice.exception.OrderNotFoundException;
 import com.riloidx.orderservice.repository.ItemRepository;
 import com.riloidx.orderservice.repository.OrderRepository;
+import com.riloidx.orderservice.service.OrderService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
@@ -38,6 +49,8 @@ class OrderIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
     @Autowired
+    private OrderService orderService;
+    @Autowired
     private ObjectMapper objectMapper;
 
     private Item savedItem;
@@ -69,6 +82,21 @@ class OrderIntegrationTest extends BaseIntegrationTest {
                                 "email": "alice@test.com"
                             }
                             """)));
+
+        stubFor(post(urlPathEqualTo("/api/users/batch"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withStatus(200)
+                        .withBody("""
+                            [
+                                {
+                                    "id": 1,
+                                    "name": "Alice",
+                                    "surname": "Smith",
+                                    "email": "alice@test.com"
+                                }
+                            ]
+                            """)));
     }
 
     @AfterEach
@@ -101,16 +129,38 @@ class OrderIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
-    void findByUserIdShouldReturnListOfOrders() throws Exception {
+    void findByUserIdShouldReturnPageOfOrders() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/orders/user/{userId}", 1L))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].user.surname", is("Smith")));
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].user.surname", is("Smith")));
+    }
+
+    @Test
+    void findByUserIdShouldStreamNewestOrdersFirst() throws Exception {
+        Order newer = new Order();
+        newer.setUserId(1L);
+        newer.setStatus(OrderStatus.PENDING);
+        newer.setDeleted(false);
+        newer.setTotalPrice(BigDecimal.TEN);
+        newer = orderRepository.save(newer);
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/orders/user/{userId}", 1L)
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+
+        List<String> lines = mvcResult.getResponse().getContentAsString().lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(newer.getId().longValue(), objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals(savedOrder.getId().longValue(), objectMapper.readTree(lines.get(1)).get("id").asLong());
+        assertEquals("Alice", objectMapper.readTree(lines.get(1)).get("user").get("name").asText());
     }
 
     @Test
     void updateOrderShouldModifyStatusAndRecalculatePrice() throws Exception {
-        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED, List.of(new OrderItemDto(savedItem.getId(), 5)));
+        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED, List.of(new OrderItemDto(savedItem.getId(), 5)), savedOrder.getVersion());
         String jsonRequest = objectMapper.writeValueAsString(updateDto);
 
         mockMvc.perform(MockMvcRequestBuilders.put("/orders/{id}", savedOrder.getId())
@@ -122,6 +172,36 @@ class OrderIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.user.email", is("alice@test.com")));
     }
 
+    @Test
+    void updateOrderShouldKeepUnchangedLinesInPlace() throws Exception {
+        Item mouse = new Item();
+        mouse.setName("Mouse");
+        mouse.setPrice(BigDecimal.valueOf(20.00));
+        mouse = itemRepository.save(mouse);
+
+        String created = mockMvc.perform(MockMvcRequestBuilders.post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderCreateDto(1L, List.of(
+                                new OrderItemDto(savedItem.getId(), 1),
+                                new OrderItemDto(mouse.getId(), 1))))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode createdOrder = objectMapper.readTree(created);
+        long laptopLineId = createdOrder.get("orderItems").get(0).get("id").asLong();
+
+        OrderUpdateDto updateDto = new OrderUpdateDto(null,
+                List.of(new OrderItemDto(savedItem.getId(), 2)), createdOrder.get("version").asLong());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/orders/{id}", createdOrder.get("id").asLong())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderItems", hasSize(1)))
+                .andExpect(jsonPath("$.orderItems[0].id", is((int) laptopLineId)))
+                .andExpect(jsonPath("$.orderItems[0].quantity", is(2)))
+                .andExpect(jsonPath("$.totalPrice", is(2000.00)));
+    }
+
     @Test
     void deleteOrderShouldSoftDelete() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/orders/{id}", savedOrder.getId()))
@@ -142,4 +222,119 @@ class OrderIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.content[0].user.name", is("Alice")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateStatusesFromPaymentsShouldApplyStatusPerOrder() {
+        Order second = new Order();
+        second.setUserId(1L);
+        second.setStatus(OrderStatus.PENDING);
+        second.setDeleted(false);
+        second.setTotalPrice(BigDecimal.TEN);
+        second = orderRepository.save(second);
+
+        orderService.updateStatusesFromPayments(Map.of(
+                savedOrder.getId(), "SUCCESS",
+                second.getId(), "FAILED"));
+
+        assertEquals(OrderStatus.CONFIRMED, orderRepository.findById(savedOrder.getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.CANCELED, orderRepository.findById(second.getId()).orElseThrow().getStatus());
+
+        orderService.updateStatusesFromPayments(Map.of(savedOrder.getId(), "FAILED"));
+
+        assertEquals(OrderStatus.CONFIRMED, orderRepository.findById(savedOrder.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateStatusesFromPaymentsShouldRollBackBatchWithUnknownOrder() {
+        Map<Long, String> statuses = Map.of(savedOrder.getId(), "SUCCESS", Long.MAX_VALUE, "SUCCESS");
+
+        assertThrows(OrderNotFoundException.class, () -> orderService.updateStatusesFromPayments(statuses));
+
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(savedOrder.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateOrderWithStaleVersionShouldReturnConflict() throws Exception {
+        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED,
+                List.of(new OrderItemDto(savedItem.getId(), 1)), savedOrder.getVersion() + 1);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/orders/{id}", savedOrder.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void findAllByCursorShouldWalkAllOrdersWithoutGaps() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Order order = new Order();
+            order.setUserId(1L);
+            order.setStatus(OrderStatus.PENDING);
+            order.setDeleted(false);
+            order.setTotalPrice(BigDecimal.TEN);
+            orderRepository.save(order);
+        }
+
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/orders/cursor")
+                        .param("size", "2")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id", is(savedOrder.getId().intValue())))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders/cursor")
+                        .param("size", "2")
+                        .param("status", "PENDING")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].user.name", is("Alice")))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    @Test
+    void findAllByCursorShouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/orders/cursor")
+                        .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportShouldStreamOrdersAsCsv() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/orders/export")
+                        .param("format", "CSV")
+                        .param("enrich", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+
+        List<String> lines = mvcResult.getResponse().getContentAsString().lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith(savedOrder.getId() + ",1,PENDING,false,"));
+        assertTrue(lines.get(1).endsWith(",Alice,Smith,alice@test.com"));
+    }
+
+    @Test
+    void createAllShouldCreateValidOrdersAndReportErrors() throws Exception {
+        OrderBulkCreateDto bulkDto = new OrderBulkCreateDto(List.of(
+                new OrderCreateDto(1L, List.of(new OrderItemDto(savedItem.getId(), 1))),
+                new OrderCreateDto(1L, List.of(new OrderItemDto(Long.MAX_VALUE, 1))),
+                new OrderCreateDto(1L, List.of(new OrderItemDto(savedItem.getId(), 3)))));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[0].orderId", notNullValue()))
+                .andExpect(jsonPath("$.results[1].errors[0]", is("Item with ids=[" + Long.MAX_VALUE + "] not found")))
+                .andExpect(jsonPath("$.results[2].orderId", notNullValue()));
+
+        assertEquals(3, orderRepository.count());
+    }
+}
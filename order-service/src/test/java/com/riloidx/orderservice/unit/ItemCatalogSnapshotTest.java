@@ -0,0 +1,51 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.service.ItemCatalogSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemCatalogSnapshotTest {
+
+    @Test
+    void ofShouldIndexItemsByIdAndName() {
+        Item phone = item(7L, "Phone", "100.00");
+        ItemCatalogSnapshot snapshot = ItemCatalogSnapshot.of(3, null, List.of(phone, item(2L, "Laptop", "900.00")));
+        phone.setPrice(new BigDecimal("1.00"));
+
+        assertEquals(3, snapshot.version());
+        assertEquals("Phone", snapshot.findById(7L).orElseThrow().name());
+        assertEquals(2L, snapshot.findByName("Laptop").orElseThrow().id());
+        assertTrue(snapshot.findById(5L).isEmpty());
+        assertTrue(snapshot.findByName("Mouse").isEmpty());
+        assertEquals(List.of(
+                new ItemResponseDto(2L, "Laptop", new BigDecimal("900.00")),
+                new ItemResponseDto(7L, "Phone", new BigDecimal("100.00"))), snapshot.items());
+        assertEquals(new BigDecimal("100.00"), snapshot.findById(7L).orElseThrow().price());
+    }
+
+    @Test
+    void etagShouldDependOnContentOnly() {
+        ItemCatalogSnapshot first = ItemCatalogSnapshot.of(1, null, List.of(item(1L, "Phone", "100.00")));
+        ItemCatalogSnapshot rebuilt = ItemCatalogSnapshot.of(2, null, List.of(item(1L, "Phone", "100.00")));
+        ItemCatalogSnapshot repriced = ItemCatalogSnapshot.of(3, null, List.of(item(1L, "Phone", "120.00")));
+
+        assertEquals(first.etag(), rebuilt.etag());
+        assertNotEquals(first.etag(), repriced.etag());
+    }
+
+    private Item item(long id, String name, String price) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setPrice(new BigDecimal(price));
+        return item;
+    }
+}
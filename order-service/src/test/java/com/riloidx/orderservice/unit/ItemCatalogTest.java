@@ -0,0 +1,73 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.repository.ItemCatalogSummaryRepository;
+import com.riloidx.orderservice.repository.ItemRepository;
+import com.riloidx.orderservice.service.ItemCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogTest {
+
+    @Mock
+    private ItemRepository itemRepo;
+
+    @Mock
+    private ItemCatalogSummaryRepository summaryRepo;
+
+    @InjectMocks
+    private ItemCatalog catalog;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterCommitRebuildFailureShouldNotReachTheWriter() {
+        when(summaryRepo.findById(any())).thenReturn(Optional.empty());
+        when(itemRepo.findAll()).thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        catalog.rebuildAfterCommit();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        assertEquals(1, synchronizations.size());
+        assertDoesNotThrow(() -> synchronizations.get(0).afterCommit());
+        verify(itemRepo).findAll();
+    }
+
+    @Test
+    void rebuildAfterCommitShouldSwapSnapshotWithoutTransaction() {
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Phone");
+        item.setPrice(new BigDecimal("100.00"));
+        when(summaryRepo.findById(any())).thenReturn(Optional.empty());
+        when(itemRepo.findAll()).thenReturn(List.of(item));
+
+        catalog.rebuildAfterCommit();
+
+        assertEquals("Phone", catalog.snapshot().findById(1L).orElseThrow().name());
+    }
+}
@@ -1,26 +1,41 @@
 package com.riloidx.orderservice.unit;
 
+import com.riloidx.orderservice.config.CatalogProperties;
 import com.riloidx.orderservice.dto.request.ItemCreateDto;
 import com.riloidx.orderservice.dto.request.ItemUpdateDto;
+import com.riloidx.orderservice.dto.response.ItemCatalogSummaryDto;
 import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.dto.response.PriceStatsDto;
 import com.riloidx.orderservice.entity.Item;
+import com.riloidx.orderservice.entity.ItemCatalogSummary;
 import com.riloidx.orderservice.exception.ItemAlreadyExistsException;
 import com.riloidx.orderservice.exception.ItemNotFoundException;
 import com.riloidx.orderservice.mapper.ItemMapper;
+import com.riloidx.orderservice.repository.ItemCatalogSummaryRepository;
 import com.riloidx.orderservice.repository.ItemRepository;
+import com.riloidx.orderservice.service.ItemCatalog;
+import com.riloidx.orderservice.service.ItemCatalogSnapshot;
 import com.riloidx.orderservice.service.ItemServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +44,27 @@ class ItemServiceImplTest {
     @Mock
     private ItemRepository itemRepo;
 
+    @Mock
+    private ItemCatalogSummaryRepository summaryRepo;
+
+    @Mock
+    private ItemCatalog itemCatalog;
+
     @Mock
     private ItemMapper itemMapper;
 
+    @Spy
+    private CatalogProperties catalogProperties = new CatalogProperties(
+            List.of(BigDecimal.ZERO, BigDecimal.valueOf(100)), Duration.ofSeconds(30));
+
     @InjectMocks
     private ItemServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(itemCatalog.snapshot()).thenReturn(ItemCatalogSnapshot.EMPTY);
+    }
+
     @Test
     void createShouldSaveAndReturnDtoWhenNameUnique() {
         ItemCreateDto createDto = new ItemCreateDto("Phone", BigDecimal.valueOf(100.00));
@@ -55,6 +85,8 @@ class ItemServiceImplTest {
         assertEquals(responseDto, result);
         verify(itemRepo).findByName("Phone");
         verify(itemRepo).save(item);
+        verify(summaryRepo).applyAdded(BigDecimal.valueOf(100.00));
+        verify(itemCatalog).rebuildAfterCommit();
         verify(itemMapper).toEntity(createDto);
         verify(itemMapper).toDto(item);
     }
@@ -73,19 +105,13 @@ class ItemServiceImplTest {
     }
 
     @Test
-    void findAllShouldReturnListOfItems() {
-        Item item = new Item();
-        ItemResponseDto responseDto = new ItemResponseDto(1L, "Phone", BigDecimal.valueOf(100.00));
-
-        when(itemRepo.findAll()).thenReturn(List.of(item));
-        when(itemMapper.toDto(List.of(item))).thenReturn(List.of(responseDto));
+    void findAllShouldReturnItemsFromCatalogSnapshot() {
+        when(itemCatalog.snapshot()).thenReturn(catalog(item(1L, "Phone", "100.00")));
 
         List<ItemResponseDto> result = service.findAll();
 
-        assertEquals(1, result.size());
-        assertEquals(responseDto, result.get(0));
-        verify(itemRepo).findAll();
-        verify(itemMapper).toDto(List.of(item));
+        assertEquals(List.of(new ItemResponseDto(1L, "Phone", new BigDecimal("100.00"))), result);
+        verifyNoInteractions(itemRepo, itemMapper);
     }
 
     @Test
@@ -111,6 +137,60 @@ class ItemServiceImplTest {
         verify(itemRepo).findById(id);
     }
 
+    @Test
+    void findAllByIdsShouldPriceItemsFromDatabaseRatherThanSnapshot() {
+        Item repriced = item(1L, "Phone", "120.00");
+        ItemResponseDto repricedDto = new ItemResponseDto(1L, "Phone", new BigDecimal("120.00"));
+        lenient().when(itemCatalog.snapshot()).thenReturn(catalog(item(1L, "Phone", "100.00")));
+        when(itemRepo.findAllByIdIn(Set.of(1L))).thenReturn(List.of(repriced));
+        when(itemMapper.toDto(repriced)).thenReturn(repricedDto);
+
+        assertEquals(Map.of(1L, repricedDto), service.findAllByIds(Set.of(1L)));
+    }
+
+    @Test
+    void findAllByIdsShouldRejectItemDeletedOnAnotherPod() {
+        Item phone = item(1L, "Phone", "100.00");
+        lenient().when(itemCatalog.snapshot()).thenReturn(catalog(phone, item(2L, "Laptop", "900.00")));
+        when(itemRepo.findAllByIdIn(Set.of(1L, 2L))).thenReturn(List.of(phone));
+
+        ItemNotFoundException e = assertThrows(ItemNotFoundException.class,
+                () -> service.findAllByIds(Set.of(1L, 2L)));
+
+        assertEquals("Item with ids=[2] not found", e.getMessage());
+    }
+
+    @Test
+    void findAllByIdsShouldListEveryMissingId() {
+        when(itemRepo.findAllByIdIn(List.of(3L, 1L, 2L))).thenReturn(List.of(item(1L, "Phone", "100.00")));
+
+        ItemNotFoundException e = assertThrows(ItemNotFoundException.class,
+                () -> service.findAllByIds(List.of(3L, 1L, 2L)));
+
+        assertEquals("Item with ids=[2, 3] not found", e.getMessage());
+    }
+
+    @Test
+    void findExistingByIdsShouldLoadItemsWithOneQuery() {
+        Item first = item(1L, "Phone", "100.00");
+        ItemResponseDto firstDto = new ItemResponseDto(1L, "Phone", new BigDecimal("100.00"));
+
+        when(itemRepo.findAllByIdIn(anyCollection())).thenReturn(List.of(first));
+        when(itemMapper.toDto(first)).thenReturn(firstDto);
+
+        assertEquals(Map.of(1L, firstDto), service.findExistingByIds(Set.of(1L, 2L)));
+        verify(itemRepo).findAllByIdIn(anyCollection());
+        verify(itemRepo, never()).findById(anyLong());
+    }
+
+    @Test
+    void findDtoByIdShouldNotTouchDatabaseWhenItemIsInSnapshot() {
+        when(itemCatalog.snapshot()).thenReturn(catalog(item(1L, "Phone", "100.00")));
+
+        assertEquals(new ItemResponseDto(1L, "Phone", new BigDecimal("100.00")), service.findDtoById(1L));
+        verifyNoInteractions(itemRepo, itemMapper);
+    }
+
     @Test
     void findDtoByIdShouldReturnDtoWhenExists() {
         long id = 1L;
@@ -159,10 +239,12 @@ class ItemServiceImplTest {
         Item currentItem = new Item();
         currentItem.setId(id);
         currentItem.setName("Old Phone");
+        currentItem.setPrice(BigDecimal.valueOf(100.00));
 
         Item updatedItem = new Item();
         updatedItem.setId(id);
         updatedItem.setName("New Phone");
+        updatedItem.setPrice(BigDecimal.valueOf(150.00));
 
         ItemResponseDto responseDto = new ItemResponseDto(id, "New Phone", BigDecimal.valueOf(150.00));
 
@@ -179,6 +261,9 @@ class ItemServiceImplTest {
         verify(itemRepo).findById(id);
         verify(itemRepo).save(currentItem);
         verify(itemMapper).updateEntityFromDto(updateDto, currentItem);
+        verify(summaryRepo).applyRemoved(BigDecimal.valueOf(100.00));
+        verify(summaryRepo).applyAdded(BigDecimal.valueOf(150.00));
+        verify(itemCatalog).rebuildAfterCommit();
     }
 
     @Test
@@ -198,26 +283,83 @@ class ItemServiceImplTest {
     void deleteShouldCallRepoWhenItemExists() {
         long id = 1L;
         Item item = new Item();
+        item.setPrice(BigDecimal.TEN);
         when(itemRepo.findById(id)).thenReturn(Optional.of(item));
 
         service.delete(id);
 
         verify(itemRepo).findById(id);
-        verify(itemRepo).deleteById(id);
+        verify(itemRepo).delete(item);
+        verify(summaryRepo).applyRemoved(BigDecimal.TEN);
+        verify(itemCatalog).rebuildAfterCommit();
     }
 
     @Test
     void calculateTotalPriceOfAllItemsShouldReturnCorrectSum() {
-        Item item1 = new Item();
-        item1.setPrice(BigDecimal.valueOf(100.00));
-        Item item2 = new Item();
-        item2.setPrice(BigDecimal.valueOf(50.50));
-
-        when(itemRepo.findAll()).thenReturn(List.of(item1, item2));
+        when(summaryRepo.findById(ItemCatalogSummary.SINGLETON_ID))
+                .thenReturn(Optional.of(summary(2, "150.50", "50.50", "100.00")));
 
         BigDecimal result = service.calculateTotalPriceOfAllItems();
 
         assertEquals(new BigDecimal("150.50"), result);
-        verify(itemRepo).findAll();
+        verify(itemRepo, never()).findAll();
+    }
+
+    @Test
+    void calculateTotalPriceOfAllItemsShouldFallBackToAggregateWhenSummaryMissing() {
+        when(summaryRepo.findById(ItemCatalogSummary.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(itemRepo.aggregatePrices()).thenReturn(new PriceStatsDto(0L, null, null, null));
+
+        assertEquals(new BigDecimal("0.00"), service.calculateTotalPriceOfAllItems());
+        verify(itemRepo, never()).findAll();
+    }
+
+    @Test
+    void getCatalogSummaryShouldReturnTotalsAndPriceBands() {
+        when(summaryRepo.findById(ItemCatalogSummary.SINGLETON_ID))
+                .thenReturn(Optional.of(summary(4, "400.00", "50.00", "200.00")));
+        when(itemCatalog.snapshot()).thenReturn(catalog(item(1L, "Phone", "50.00"),
+                item(2L, "Case", "50.00"), item(3L, "Laptop", "100.00"), item(4L, "Tablet", "200.00")));
+
+        ItemCatalogSummaryDto result = service.getCatalogSummary(null);
+
+        assertEquals(4, result.count());
+        assertEquals(new BigDecimal("100.00"), result.average());
+        assertEquals(2, result.bands().size());
+        assertEquals(2, result.bands().get(0).count());
+        assertEquals(new BigDecimal("100.00"), result.bands().get(0).total());
+        assertNull(result.bands().get(1).to());
+        assertEquals(2, result.bands().get(1).count());
+        assertEquals(new BigDecimal("300.00"), result.bands().get(1).total());
+        assertEquals(new BigDecimal("100.00"), result.bands().get(1).min());
+        verify(itemRepo, never()).aggregatePrices();
+    }
+
+    @Test
+    void getCatalogSummaryShouldRejectUnorderedBands() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getCatalogSummary(List.of(BigDecimal.TEN, BigDecimal.ONE)));
+    }
+
+    private Item item(long id, String name, String price) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setPrice(new BigDecimal(price));
+        return item;
+    }
+
+    private ItemCatalogSnapshot catalog(Item... items) {
+        return ItemCatalogSnapshot.of(1, null, List.of(items));
+    }
+
+    private ItemCatalogSummary summary(long count, String sum, String min, String max) {
+        ItemCatalogSummary summary = new ItemCatalogSummary();
+        summary.setId(ItemCatalogSummary.SINGLETON_ID);
+        summary.setItemCount(count);
+        summary.setPriceSum(new BigDecimal(sum));
+        summary.setMinPrice(new BigDecimal(min));
+        summary.setMaxPrice(new BigDecimal(max));
+        return summary;
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.util.OrderCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderCursorTest {
+
+    @Test
+    void decodeShouldRestoreEncodedCursor() {
+        OrderCursor cursor = new OrderCursor(Instant.parse("2025-11-25T16:44:01.123456Z"), 42L);
+
+        assertEquals(cursor, OrderCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.util.OrderPricing;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderPricingTest {
+
+    @Test
+    void totalShouldMatchBigDecimalArithmetic() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int run = 0; run < 1_000; run++) {
+            int lines = random.nextInt(1, 20);
+            BigDecimal[] prices = new BigDecimal[lines];
+            int[] quantities = new int[lines];
+            for (int i = 0; i < lines; i++) {
+                prices[i] = BigDecimal.valueOf(random.nextLong(0, 10_000_000_000L), random.nextInt(0, 3));
+                quantities[i] = random.nextInt(1, 1_000);
+            }
+
+            assertEquals(OrderPricing.totalExact(prices, quantities, lines), OrderPricing.total(prices, quantities, lines));
+        }
+    }
+
+    @Test
+    void totalShouldKeepTwoDecimals() {
+        BigDecimal total = OrderPricing.total(
+                new BigDecimal[]{BigDecimal.valueOf(1000), new BigDecimal("0.10")}, new int[]{2, 3}, 2);
+
+        assertEquals(new BigDecimal("2000.30"), total);
+    }
+
+    @Test
+    void totalShouldRoundHalfUpWhenPriceHasMoreThanTwoDecimals() {
+        BigDecimal total = OrderPricing.total(
+                new BigDecimal[]{new BigDecimal("0.005"), new BigDecimal("1.00")}, new int[]{1, 1}, 2);
+
+        assertEquals(new BigDecimal("1.01"), total);
+    }
+
+    @Test
+    void totalShouldFallBackWhenMinorUnitsOverflow() {
+        BigDecimal price = new BigDecimal("9999999999999.99");
+
+        BigDecimal total = OrderPricing.total(new BigDecimal[]{price, price}, new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}, 2);
+
+        assertEquals(price.multiply(BigDecimal.valueOf(2L * Integer.MAX_VALUE)), total);
+    }
+}
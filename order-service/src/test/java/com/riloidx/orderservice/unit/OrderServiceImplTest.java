@@ -1,37 +1,68 @@
 package com.riloidx.orderservice.unit;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riloidx.orderservice.config.OrderExportProperties;
 import com.riloidx.orderservice.dto.request.OrderCreateDto;
 import com.riloidx.orderservice.dto.request.OrderItemDto;
 import com.riloidx.orderservice.dto.request.OrderUpdateDto;
+import com.riloidx.orderservice.dto.response.ItemResponseDto;
+import com.riloidx.orderservice.dto.response.OrderBulkCreateResponseDto;
+import com.riloidx.orderservice.dto.response.OrderBulkResultDto;
+import com.riloidx.orderservice.dto.response.OrderCursorPageDto;
+import com.riloidx.orderservice.dto.response.OrderExportDto;
 import com.riloidx.orderservice.dto.response.OrderFullResponseDto;
 import com.riloidx.orderservice.dto.response.OrderResponseDto;
 import com.riloidx.orderservice.dto.response.UserResponseDto;
 import com.riloidx.orderservice.entity.Item;
 import com.riloidx.orderservice.entity.Order;
+import com.riloidx.orderservice.entity.OrderItem;
+import com.riloidx.orderservice.enums.ExportFormat;
 import com.riloidx.orderservice.enums.OrderStatus;
+import com.riloidx.orderservice.exception.ItemNotFoundException;
 import com.riloidx.orderservice.exception.OrderNotFoundException;
+import com.riloidx.orderservice.exception.OrderStatusTransitionException;
+import com.riloidx.orderservice.exception.OrderVersionConflictException;
 import com.riloidx.orderservice.mapper.OrderMapper;
 import com.riloidx.orderservice.repository.OrderRepository;
 import com.riloidx.orderservice.service.ItemService;
 import com.riloidx.orderservice.service.OrderServiceImpl;
-import com.riloidx.orderservice.service.UserServiceClient;
+import com.riloidx.orderservice.service.UserLookupService;
+import com.riloidx.orderservice.util.OrderCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -43,9 +74,17 @@ class OrderServiceImplTest {
     @Mock
     private ItemService itemService;
     @Mock
-    private UserServiceClient userService;
+    private UserLookupService userService;
     @Mock
     private OrderMapper orderMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @Spy
+    private OrderExportProperties exportProperties = new OrderExportProperties(2);
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private OrderServiceImpl service;
@@ -56,9 +95,7 @@ class OrderServiceImplTest {
     void createShouldCalculatePriceAndReturnFullDto() {
         OrderCreateDto createDto = new OrderCreateDto(1L, List.of(new OrderItemDto(10L, 2)));
 
-        Item item = new Item();
-        item.setId(10L);
-        item.setPrice(BigDecimal.valueOf(100.00));
+        ItemResponseDto item = new ItemResponseDto(10L, "Phone", BigDecimal.valueOf(100.00));
 
         Order orderEntity = new Order();
         orderEntity.setUserId(1L);
@@ -69,10 +106,10 @@ class OrderServiceImplTest {
         savedOrder.setUserId(1L);
         savedOrder.setTotalPrice(BigDecimal.valueOf(200.00));
 
-        OrderFullResponseDto expectedDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.valueOf(200.00), mockUser, List.of());
+        OrderFullResponseDto expectedDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.valueOf(200.00), mockUser, List.of(), 0L);
 
         when(orderMapper.toEntity(createDto)).thenReturn(orderEntity);
-        when(itemService.findById(10L)).thenReturn(item);
+        when(itemService.findAllByIds(Set.of(10L))).thenReturn(Map.of(10L, item));
         when(orderRepo.save(orderEntity)).thenReturn(savedOrder);
         when(userService.getUserById(1L)).thenReturn(mockUser);
         when(orderMapper.toFullDto(savedOrder, mockUser)).thenReturn(expectedDto);
@@ -85,47 +122,185 @@ class OrderServiceImplTest {
         verify(userService).getUserById(1L);
     }
 
+    @Test
+    void createShouldMergeRepeatedItemsIntoSingleLine() {
+        OrderCreateDto createDto = new OrderCreateDto(1L, List.of(
+                new OrderItemDto(10L, 2),
+                new OrderItemDto(20L, 1),
+                new OrderItemDto(10L, 3)));
+
+        ItemResponseDto first = new ItemResponseDto(10L, "Phone", BigDecimal.valueOf(100.00));
+        ItemResponseDto second = new ItemResponseDto(20L, "Case", BigDecimal.valueOf(50.00));
+
+        Order orderEntity = new Order();
+        orderEntity.setUserId(1L);
+        orderEntity.setOrderItems(new ArrayList<>());
+
+        when(orderMapper.toEntity(createDto)).thenReturn(orderEntity);
+        when(itemService.findAllByIds(Set.of(10L, 20L))).thenReturn(Map.of(10L, first, 20L, second));
+        when(orderRepo.save(orderEntity)).thenReturn(orderEntity);
+        when(userService.getUserById(1L)).thenReturn(mockUser);
+
+        service.create(createDto);
+
+        assertEquals(2, orderEntity.getOrderItems().size());
+        assertEquals(5, orderEntity.getOrderItems().get(0).getQuantity());
+        assertEquals(1, orderEntity.getOrderItems().get(1).getQuantity());
+        assertEquals(new BigDecimal("550.00"), orderEntity.getTotalPrice());
+        verify(itemService).findAllByIds(Set.of(10L, 20L));
+        verify(itemService, never()).findById(anyLong());
+    }
+
+    @Test
+    void createShouldPropagateMissingItemsError() {
+        OrderCreateDto createDto = new OrderCreateDto(1L, List.of(new OrderItemDto(10L, 1), new OrderItemDto(30L, 1)));
+
+        Order orderEntity = new Order();
+        orderEntity.setOrderItems(new ArrayList<>());
+
+        when(orderMapper.toEntity(createDto)).thenReturn(orderEntity);
+        when(itemService.findAllByIds(Set.of(10L, 30L))).thenThrow(new ItemNotFoundException("ids", "[30]"));
+
+        assertThrows(ItemNotFoundException.class, () -> service.create(createDto));
+        verify(orderRepo, never()).save(any());
+    }
+
+    @Test
+    void createAllShouldSaveValidOrdersAndReportPerOrderErrors() {
+        OrderCreateDto valid = new OrderCreateDto(1L, List.of(new OrderItemDto(10L, 2)));
+        OrderCreateDto invalid = new OrderCreateDto(null, List.of(new OrderItemDto(10L, 0)));
+        OrderCreateDto unknownItem = new OrderCreateDto(2L, List.of(new OrderItemDto(30L, 1)));
+
+        ItemResponseDto item = new ItemResponseDto(10L, "Phone", BigDecimal.valueOf(100.00));
+
+        Order orderEntity = new Order();
+        orderEntity.setOrderItems(new ArrayList<>());
+
+        when(itemService.findExistingByIds(Set.of(10L, 30L))).thenReturn(Map.of(10L, item));
+        when(orderMapper.toEntity(valid)).thenReturn(orderEntity);
+        when(orderRepo.saveAll(anyCollection())).thenAnswer(inv -> {
+            orderEntity.setId(7L);
+            return List.copyOf(inv.<Collection<Order>>getArgument(0));
+        });
+
+        OrderBulkCreateResponseDto result = service.createAll(List.of(valid, invalid, unknownItem));
+
+        assertEquals(1, result.created());
+        assertEquals(2, result.failed());
+        assertEquals(OrderBulkResultDto.created(0, 7L), result.results().get(0));
+        assertEquals(List.of("items[0].quantity: Quantity must be at least 1", "userId: User ID must not be null"),
+                result.results().get(1).errors());
+        assertEquals(List.of("Item with ids=[30] not found"), result.results().get(2).errors());
+        assertEquals(new BigDecimal("200.00"), orderEntity.getTotalPrice());
+        verify(itemService, times(1)).findExistingByIds(any());
+        verify(itemService, never()).findAllByIds(any());
+    }
+
     @Test
     void findAllShouldReturnPageOfFullDtos() {
         Pageable pageable = Pageable.unpaged();
         Order order = new Order();
+        order.setId(1L);
         order.setUserId(1L);
         Page<Order> page = new PageImpl<>(List.of(order));
 
-        OrderFullResponseDto fullDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of());
+        OrderFullResponseDto fullDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of(), 0L);
 
         when(orderRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-        when(userService.getUserById(1L)).thenReturn(mockUser);
+        when(orderRepo.findAllWithItemsByIdIn(List.of(1L))).thenReturn(List.of(order));
+        when(userService.getUsersByIds(Set.of(1L))).thenReturn(Map.of(1L, mockUser));
         when(orderMapper.toFullDto(order, mockUser)).thenReturn(fullDto);
 
         Page<OrderFullResponseDto> resultPage = service.findAll(pageable, null, null, null, null);
 
         assertEquals(1, resultPage.getTotalElements());
         assertEquals(fullDto, resultPage.getContent().get(0));
-        verify(userService).getUserById(1L);
+        verify(userService).getUsersByIds(Set.of(1L));
+        verify(userService, never()).getUserById(anyLong());
+    }
+
+    @Test
+    void findAllShouldFetchEachUserOnce() {
+        Pageable pageable = Pageable.unpaged();
+        Order first = new Order();
+        first.setId(1L);
+        first.setUserId(1L);
+        Order second = new Order();
+        second.setId(2L);
+        second.setUserId(1L);
+        Order third = new Order();
+        third.setId(3L);
+        third.setUserId(2L);
+        Page<Order> page = new PageImpl<>(List.of(first, second, third));
+        UserResponseDto otherUser = new UserResponseDto(2L, "Jane", "Doe", "jane@email.com");
+
+        when(orderRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+        when(orderRepo.findAllWithItemsByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second, third));
+        when(userService.getUsersByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, mockUser, 2L, otherUser));
+
+        service.findAll(pageable, null, null, null, null);
+
+        verify(userService, times(1)).getUsersByIds(any());
+        verify(orderMapper, times(2)).toFullDto(any(Order.class), eq(mockUser));
+        verify(orderMapper).toFullDto(third, otherUser);
     }
 
     @Test
-    void findByUserIdShouldReturnListWithUserInfo() {
+    void findByUserIdShouldReturnNewestFirstPageWithUserInfo() {
         Order order = new Order();
+        order.setId(1L);
         order.setUserId(1L);
-        OrderFullResponseDto fullDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of());
+        OrderFullResponseDto fullDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of(), 0L);
+        PageRequest expectedPageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
 
-        when(orderRepo.findAllByUserId(1L)).thenReturn(List.of(order));
+        when(orderRepo.findByUserId(1L, expectedPageable)).thenReturn(new PageImpl<>(List.of(order), expectedPageable, 1));
+        when(orderRepo.findAllWithItemsByIdIn(List.of(1L))).thenReturn(List.of(order));
         when(userService.getUserById(1L)).thenReturn(mockUser);
         when(orderMapper.toFullDto(order, mockUser)).thenReturn(fullDto);
 
-        List<OrderFullResponseDto> result = service.findByUserId(1L);
+        Page<OrderFullResponseDto> result = service.findByUserId(1L, PageRequest.of(0, 20, Sort.by("userId")));
 
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
+        assertEquals(List.of(fullDto), result.getContent());
         verify(userService).getUserById(1L);
     }
 
+    @Test
+    void findByUserIdShouldRejectOversizedPage() {
+        assertThrows(IllegalArgumentException.class, () -> service.findByUserId(1L, PageRequest.of(0, 101)));
+        verifyNoInteractions(orderRepo);
+    }
+
+    @Test
+    void streamByUserIdShouldWriteNdjsonInChunksAndClearPersistenceContext() throws IOException {
+        Order first = orderWithId(3L);
+        Order second = orderWithId(2L);
+        Order third = orderWithId(1L);
+
+        when(userService.getUserById(1L)).thenReturn(mockUser);
+        when(orderRepo.streamIdsByUserId(1L)).thenReturn(Stream.of(3L, 2L, 1L));
+        when(orderRepo.findAllWithItemsByIdIn(List.of(3L, 2L))).thenReturn(List.of(second, first));
+        when(orderRepo.findAllWithItemsByIdIn(List.of(1L))).thenReturn(List.of(third));
+        when(orderMapper.toFullDto(any(Order.class), eq(mockUser))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            return new OrderFullResponseDto(order.getId(), OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of(), 0L);
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamByUserId(1L, out);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).lines().toList()) {
+            ids.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        assertEquals(List.of(3L, 2L, 1L), ids);
+        verify(userService, times(1)).getUserById(1L);
+        verify(entityManager, times(2)).clear();
+    }
+
     @Test
     void updateShouldProcessItemsAndSaveWhenValid() {
         long orderId = 1L;
-        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED, List.of(new OrderItemDto(10L, 1)));
+        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED, List.of(new OrderItemDto(10L, 1)), null);
 
         Order existingOrder = new Order();
         existingOrder.setId(orderId);
@@ -133,14 +308,12 @@ class OrderServiceImplTest {
         existingOrder.setDeleted(false);
         existingOrder.setOrderItems(new ArrayList<>());
 
-        Item item = new Item();
-        item.setId(10L);
-        item.setPrice(BigDecimal.TEN);
+        ItemResponseDto item = new ItemResponseDto(10L, "Phone", BigDecimal.TEN);
 
-        OrderFullResponseDto expectedDto = new OrderFullResponseDto(orderId, OrderStatus.CONFIRMED, false, BigDecimal.TEN, mockUser, List.of());
+        OrderFullResponseDto expectedDto = new OrderFullResponseDto(orderId, OrderStatus.CONFIRMED, false, BigDecimal.TEN, mockUser, List.of(), 0L);
 
         when(orderRepo.findById(orderId)).thenReturn(Optional.of(existingOrder));
-        when(itemService.findById(10L)).thenReturn(item);
+        when(itemService.findAllByIds(Set.of(10L))).thenReturn(Map.of(10L, item));
         when(orderRepo.save(any(Order.class))).thenReturn(existingOrder);
         when(userService.getUserById(1L)).thenReturn(mockUser);
         when(orderMapper.toFullDto(existingOrder, mockUser)).thenReturn(expectedDto);
@@ -152,6 +325,41 @@ class OrderServiceImplTest {
         verify(orderRepo).save(any(Order.class));
     }
 
+    @Test
+    void updateShouldKeepExistingLinesAndApplyOnlyTheDiff() {
+        long orderId = 1L;
+        Item kept = item(10L, "5.00");
+        Item removed = item(11L, "7.00");
+        Item added = item(12L, "1.50");
+
+        Order existingOrder = new Order();
+        existingOrder.setId(orderId);
+        existingOrder.setUserId(1L);
+        existingOrder.setDeleted(false);
+        existingOrder.setVersion(3L);
+        OrderItem keptLine = orderLine(existingOrder, kept, 1);
+        OrderItem removedLine = orderLine(existingOrder, removed, 2);
+        existingOrder.setOrderItems(new ArrayList<>(List.of(keptLine, removedLine)));
+
+        OrderUpdateDto updateDto = new OrderUpdateDto(null,
+                List.of(new OrderItemDto(10L, 3), new OrderItemDto(12L, 2)), 3L);
+
+        when(orderRepo.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(itemService.findAllByIds(Set.of(10L, 12L))).thenReturn(Map.of(
+                10L, itemDto(kept), 12L, itemDto(added)));
+        when(orderRepo.save(existingOrder)).thenReturn(existingOrder);
+
+        service.update(orderId, updateDto);
+
+        assertEquals(2, existingOrder.getOrderItems().size());
+        assertSame(keptLine, existingOrder.getOrderItems().get(0));
+        assertEquals(3, keptLine.getQuantity());
+        assertFalse(existingOrder.getOrderItems().contains(removedLine));
+        assertEquals(12L, existingOrder.getOrderItems().get(1).getItem().getId());
+        assertEquals(2, existingOrder.getOrderItems().get(1).getQuantity());
+        assertEquals(new BigDecimal("18.00"), existingOrder.getTotalPrice());
+    }
+
     @Test
     void deleteShouldSetDeletedFlagAndReturnDto() {
         long orderId = 1L;
@@ -159,7 +367,7 @@ class OrderServiceImplTest {
         order.setId(orderId);
         order.setDeleted(false);
 
-        OrderResponseDto expectedDto = new OrderResponseDto(orderId, OrderStatus.PENDING, true, BigDecimal.ZERO, List.of());
+        OrderResponseDto expectedDto = new OrderResponseDto(orderId, OrderStatus.PENDING, true, BigDecimal.ZERO, List.of(), 0L);
 
         when(orderRepo.findById(orderId)).thenReturn(Optional.of(order));
         when(orderRepo.save(order)).thenReturn(order);
@@ -172,9 +380,202 @@ class OrderServiceImplTest {
         verify(orderRepo).save(order);
     }
 
+    @Test
+    void updateStatusesFromPaymentsShouldMapPaymentStatusesInSingleUpdate() {
+        Map<Long, String> paymentStatuses = new LinkedHashMap<>();
+        paymentStatuses.put(1L, "SUCCESS");
+        paymentStatuses.put(2L, "FAILED");
+
+        when(orderRepo.transitionPendingStatuses(anyMap())).thenReturn(Set.of());
+
+        service.updateStatusesFromPayments(paymentStatuses);
+
+        verify(orderRepo).transitionPendingStatuses(Map.of(1L, OrderStatus.CONFIRMED, 2L, OrderStatus.CANCELED));
+        verify(orderRepo, never()).save(any(Order.class));
+        verify(orderRepo, never()).findExistingIds(any());
+    }
+
+    @Test
+    void updateStatusesFromPaymentsShouldIgnoreOrdersThatAreNoLongerPending() {
+        when(orderRepo.transitionPendingStatuses(anyMap())).thenReturn(Set.of(2L));
+        when(orderRepo.findExistingIds(Set.of(2L))).thenReturn(Set.of(2L));
+
+        assertDoesNotThrow(() -> service.updateStatusesFromPayments(Map.of(1L, "SUCCESS", 2L, "FAILED")));
+    }
+
+    @Test
+    void updateStatusesFromPaymentsShouldThrowForUnknownOrders() {
+        when(orderRepo.transitionPendingStatuses(anyMap())).thenReturn(Set.of(2L, 99L));
+        when(orderRepo.findExistingIds(Set.of(2L, 99L))).thenReturn(Set.of(2L));
+
+        OrderNotFoundException e = assertThrows(OrderNotFoundException.class,
+                () -> service.updateStatusesFromPayments(Map.of(1L, "SUCCESS", 2L, "FAILED", 99L, "SUCCESS")));
+
+        assertEquals("Order with ids=[99] not found", e.getMessage());
+    }
+
+    @Test
+    void updateStatusesFromPaymentsShouldSkipEmptyBatch() {
+        service.updateStatusesFromPayments(Map.of());
+
+        verifyNoInteractions(orderRepo);
+    }
+
+    @Test
+    void updateShouldThrowConflictWhenVersionIsStale() {
+        Order existingOrder = new Order();
+        existingOrder.setId(1L);
+        existingOrder.setVersion(3L);
+
+        when(orderRepo.findById(1L)).thenReturn(Optional.of(existingOrder));
+
+        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.CONFIRMED, List.of(new OrderItemDto(10L, 1)), 2L);
+
+        assertThrows(OrderVersionConflictException.class, () -> service.update(1L, updateDto));
+        verify(orderRepo, never()).save(any(Order.class));
+    }
+
+    @Test
+    void updateShouldRejectInvalidStatusTransition() {
+        Order existingOrder = new Order();
+        existingOrder.setId(1L);
+        existingOrder.setStatus(OrderStatus.CANCELED);
+
+        when(orderRepo.findById(1L)).thenReturn(Optional.of(existingOrder));
+
+        OrderUpdateDto updateDto = new OrderUpdateDto(OrderStatus.PENDING, List.of(new OrderItemDto(10L, 1)), null);
+
+        assertThrows(OrderStatusTransitionException.class, () -> service.update(1L, updateDto));
+        verify(orderRepo, never()).save(any(Order.class));
+    }
+
+    @Test
+    void findAllByCursorShouldReturnNextCursorWhenMoreOrdersExist() {
+        Order first = new Order();
+        first.setId(1L);
+        first.setUserId(1L);
+        first.setCreatedAt(Instant.parse("2025-11-25T10:00:00Z"));
+        Order second = new Order();
+        second.setId(2L);
+        second.setUserId(1L);
+        second.setCreatedAt(Instant.parse("2025-11-25T11:00:00Z"));
+        Order third = new Order();
+        third.setId(3L);
+        third.setUserId(1L);
+        third.setCreatedAt(Instant.parse("2025-11-25T12:00:00Z"));
+
+        when(orderRepo.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, third));
+        when(orderRepo.findAllWithItemsByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(userService.getUsersByIds(Set.of(1L))).thenReturn(Map.of(1L, mockUser));
+
+        OrderCursorPageDto result = service.findAllByCursor(null, 2, null, null, null, null);
+
+        assertEquals(2, result.size());
+        assertTrue(result.hasNext());
+        assertEquals(OrderCursor.of(second), OrderCursor.decode(result.nextCursor()));
+        verify(orderRepo, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void findAllByCursorShouldRejectInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.findAllByCursor(null, 0, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.findAllByCursor(null, 101, null, null, null, null));
+    }
+
+    @Test
+    void findDtoByIdShouldLoadOrderWithItemsInOneQuery() {
+        Order order = new Order();
+        order.setId(1L);
+        order.setUserId(1L);
+        OrderFullResponseDto fullDto = new OrderFullResponseDto(1L, OrderStatus.PENDING, false, BigDecimal.TEN, mockUser, List.of(), 0L);
+
+        when(orderRepo.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        when(userService.getUserById(1L)).thenReturn(mockUser);
+        when(orderMapper.toFullDto(order, mockUser)).thenReturn(fullDto);
+
+        assertEquals(fullDto, service.findDtoById(1L));
+        verify(orderRepo, never()).findById(anyLong());
+    }
+
+    @Test
+    void exportShouldStreamCsvAndEnrichUsersOncePerChunk() throws IOException {
+        Instant createdAt = Instant.parse("2025-11-25T10:00:00Z");
+        UserResponseDto quotedUser = new UserResponseDto(2L, "Jane, Jr.", "Doe", "jane@email.com");
+
+        when(orderRepo.streamForExport(null, null, null, null)).thenReturn(Stream.of(
+                new OrderExportDto(1L, 1L, OrderStatus.PENDING, false, BigDecimal.TEN, createdAt),
+                new OrderExportDto(2L, 2L, OrderStatus.CONFIRMED, false, BigDecimal.ONE, createdAt),
+                new OrderExportDto(3L, 1L, OrderStatus.CANCELED, true, BigDecimal.ZERO, createdAt)));
+        when(userService.getUsersByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, mockUser, 2L, quotedUser));
+        when(userService.getUsersByIds(Set.of(1L))).thenReturn(Map.of(1L, mockUser));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(out, ExportFormat.CSV, true, null, null, null, null);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(4, lines.size());
+        assertEquals("id,userId,status,deleted,totalPrice,createdAt,userName,userSurname,userEmail", lines.get(0));
+        assertEquals("1,1,PENDING,false,10,2025-11-25T10:00:00Z,John,Doe,test@email.com", lines.get(1));
+        assertEquals("2,2,CONFIRMED,false,1,2025-11-25T10:00:00Z,\"Jane, Jr.\",Doe,jane@email.com", lines.get(2));
+        verify(userService, times(2)).getUsersByIds(any());
+    }
+
+    @Test
+    void exportShouldWriteCsvHeaderWhenNoOrdersMatch() throws IOException {
+        when(orderRepo.streamForExport(OrderStatus.CONFIRMED, null, null, null)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(out, ExportFormat.CSV, false, OrderStatus.CONFIRMED, null, null, null);
+
+        assertEquals("id,userId,status,deleted,totalPrice,createdAt\n", out.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void exportShouldWriteNdjsonWithoutEnrichment() throws IOException {
+        when(orderRepo.streamForExport(OrderStatus.PENDING, null, null, null)).thenReturn(Stream.of(
+                new OrderExportDto(1L, 1L, OrderStatus.PENDING, false, BigDecimal.TEN, Instant.EPOCH)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(out, ExportFormat.NDJSON, false, OrderStatus.PENDING, null, null, null);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals(1L, objectMapper.readTree(lines.getFirst()).get("id").asLong());
+        verifyNoInteractions(userService);
+    }
+
     @Test
     void findByIdShouldThrowExceptionWhenNotFound() {
         when(orderRepo.findById(99L)).thenReturn(Optional.empty());
         assertThrows(OrderNotFoundException.class, () -> service.findById(99L));
     }
-}
\ No newline at end of file
+
+    private Order orderWithId(long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setUserId(1L);
+        return order;
+    }
+
+    private Item item(long id, String price) {
+        Item item = new Item();
+        item.setId(id);
+        item.setPrice(new BigDecimal(price));
+        return item;
+    }
+
+    private ItemResponseDto itemDto(Item item) {
+        return new ItemResponseDto(item.getId(), item.getName(), item.getPrice());
+    }
+
+    private OrderItem orderLine(Order order, Item item, int quantity) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setItem(item);
+        orderItem.setQuantity(quantity);
+        return orderItem;
+    }
+}
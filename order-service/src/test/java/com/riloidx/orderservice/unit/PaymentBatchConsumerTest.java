@@ -0,0 +1,82 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.kafka.consumer.PaymentBatchConsumer;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentBatchConsumerTest {
+
+    private static final PaymentEvent FIRST = new PaymentEvent("e-1", 1L, "SUCCESS");
+    private static final PaymentEvent SECOND = new PaymentEvent("e-2", 2L, "SUCCESS");
+    private static final PaymentEvent THIRD = new PaymentEvent("e-3", 3L, "FAILED");
+
+    @Mock
+    private PaymentEventDeduplicator deduplicator;
+
+    @InjectMocks
+    private PaymentBatchConsumer consumer;
+
+    @Test
+    void handlePaymentEventsShouldProcessWholeBatchAtOnce() {
+        consumer.handlePaymentEvents(records(FIRST, SECOND, THIRD));
+
+        verify(deduplicator).process(List.of(FIRST, SECOND, THIRD));
+        verifyNoMoreInteractions(deduplicator);
+    }
+
+    @Test
+    void handlePaymentEventsShouldReportOnlyTheFailingRecordWhenBatchFails() {
+        doThrow(new IllegalStateException("order locked")).when(deduplicator).process(anyList());
+        doNothing().when(deduplicator).process(List.of(FIRST));
+        List<ConsumerRecord<String, PaymentEvent>> records = records(FIRST, SECOND, THIRD);
+
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.handlePaymentEvents(records));
+
+        assertSame(records.get(1), e.getRecord());
+        assertEquals("order locked", e.getCause().getMessage());
+        verify(deduplicator).process(List.of(FIRST));
+        verify(deduplicator, never()).process(List.of(THIRD));
+    }
+
+    @Test
+    void handlePaymentEventsShouldReportUnreadableRecord() {
+        List<ConsumerRecord<String, PaymentEvent>> records = records(FIRST, null, THIRD);
+
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.handlePaymentEvents(records));
+
+        assertSame(records.get(1), e.getRecord());
+        verify(deduplicator).process(List.of(FIRST));
+        verifyNoMoreInteractions(deduplicator);
+    }
+
+    private List<ConsumerRecord<String, PaymentEvent>> records(PaymentEvent... events) {
+        List<ConsumerRecord<String, PaymentEvent>> records = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            records.add(new ConsumerRecord<>("payment-events", 0, i, String.valueOf(i), events[i]));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,71 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import com.riloidx.orderservice.service.PaymentEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventDeduplicatorTest {
+
+    @Mock
+    private PaymentEventService paymentEventService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PaymentEventDeduplicator deduplicator;
+
+    private final PaymentEvent first = new PaymentEvent("e-1", 1L, "SUCCESS");
+    private final PaymentEvent second = new PaymentEvent("e-2", 2L, "FAILED");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new PaymentEventDeduplicator(
+                new PaymentEventsProperties("batch", 500, 1, 4, 100, Duration.ofDays(8), 5000), paymentEventService, meterRegistry);
+    }
+
+    @Test
+    void processShouldDropRedeliveredEventsWithoutCallingService() {
+        when(paymentEventService.process(List.of(first, second))).thenReturn(Set.of("e-1", "e-2"));
+
+        deduplicator.process(List.of(first, second));
+        deduplicator.process(List.of(first, second));
+
+        verify(paymentEventService, times(1)).process(anyList());
+        assertEquals(2.0, meterRegistry.get("payment.events.duplicates").counter().count());
+    }
+
+    @Test
+    void processShouldDropDuplicatesWithinBatch() {
+        when(paymentEventService.process(List.of(first))).thenReturn(Set.of("e-1"));
+
+        deduplicator.process(List.of(first, first));
+
+        verify(paymentEventService).process(List.of(first));
+    }
+
+    @Test
+    void processShouldOnlyForwardUnseenEvents() {
+        when(paymentEventService.process(List.of(first))).thenReturn(Set.of("e-1"));
+        when(paymentEventService.process(List.of(second))).thenReturn(Set.of("e-2"));
+
+        deduplicator.process(List.of(first));
+        deduplicator.process(List.of(first, second));
+
+        verify(paymentEventService).process(List.of(second));
+    }
+}
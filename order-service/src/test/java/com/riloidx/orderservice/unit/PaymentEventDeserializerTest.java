@@ -0,0 +1,92 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventCodec;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaymentEventDeserializerTest {
+
+    private final PaymentEventDeserializer deserializer = new PaymentEventDeserializer();
+
+    private final PaymentEvent event = new PaymentEvent("e-1", 42L, "FAILED");
+
+    @Test
+    void deserializeShouldDecodeBinaryPayloadWhenHeaderIsPresent() {
+        assertEquals(event, deserializer.deserialize("payment-events", binaryHeaders(), PaymentEventCodec.encode(event)));
+    }
+
+    @Test
+    void deserializeShouldReadJsonWhenHeaderIsAbsent() {
+        byte[] json = """
+                {"eventId":"e-1","orderId":42,"status":"FAILED"}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(event, deserializer.deserialize("payment-events", new RecordHeaders(), json));
+    }
+
+    @Test
+    void deserializeShouldIgnoreFieldsAppendedByNewerSchemaVersions() {
+        byte[] current = PaymentEventCodec.encode(event);
+        byte[] newer = Arrays.copyOf(current, current.length + 3);
+        newer[0] = 2;
+        newer[1] |= 1 << 3;
+        newer[current.length] = 2;
+        newer[current.length + 1] = 'v';
+        newer[current.length + 2] = '2';
+
+        assertEquals(event, deserializer.deserialize("payment-events", binaryHeaders(), newer));
+    }
+
+    @Test
+    void deserializeShouldRejectTruncatedBinaryPayload() {
+        byte[] payload = PaymentEventCodec.encode(event);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("payment-events", binaryHeaders(),
+                Arrays.copyOf(payload, payload.length - 2)));
+    }
+
+    private Headers binaryHeaders() {
+        Headers headers = new RecordHeaders();
+        headers.add(PaymentEventCodec.FORMAT_HEADER, PaymentEventCodec.BINARY_FORMAT.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    @Test
+    void codecShouldMatchSharedGoldenEncodings() throws IOException {
+        // Shared with the other service so both codec copies are held to the same bytes.
+        List<String> cases = Files.readAllLines(Path.of("..", "contracts", "payment-events", "binary-v1.txt")).stream()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .toList();
+
+        for (String line : cases) {
+            String[] parts = line.split("\\|");
+            PaymentEvent expected = new PaymentEvent(field(parts[0]),
+                    field(parts[1]) == null ? null : Long.valueOf(parts[1]), field(parts[2]));
+            byte[] bytes = HexFormat.of().parseHex(parts[3]);
+
+            assertEquals(parts[3], HexFormat.of().formatHex(PaymentEventCodec.encode(expected)), line);
+            assertEquals(expected, PaymentEventCodec.decode(bytes), line);
+        }
+        assertTrue(cases.size() >= 4);
+    }
+
+    private static String field(String value) {
+        return "-".equals(value) ? null : value;
+    }
+}
@@ -0,0 +1,130 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.config.PaymentEventsKafkaConfig;
+import com.riloidx.orderservice.dto.response.DltReplayResponseDto;
+import com.riloidx.orderservice.service.PaymentEventReplayService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventReplayServiceTest {
+
+    private static final TopicPartition DLT_PARTITION = new TopicPartition(PaymentEventsKafkaConfig.DLT_TOPIC, 0);
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, Object> paymentEventsKafkaTemplate;
+
+    @InjectMocks
+    private PaymentEventReplayService replayService;
+
+    private MockConsumer<String, byte[]> consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+        };
+    }
+
+    @Test
+    void replayDeadLettersShouldRepublishRecordsAndCommitWhatWasSent() {
+        givenDltPartition();
+        consumer.schedulePollTask(() -> {
+            for (long offset = 0; offset < 5; offset++) {
+                ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(DLT_PARTITION.topic(), 0, offset,
+                        String.valueOf(offset), new byte[]{(byte) offset});
+                record.headers().add("event-format", "binary".getBytes(StandardCharsets.UTF_8));
+                record.headers().add("kafka_dlt-exception-message", "boom".getBytes(StandardCharsets.UTF_8));
+                record.headers().add("retry_topic-attempts", new byte[]{5});
+                consumer.addRecord(record);
+            }
+        });
+        doReturn(CompletableFuture.completedFuture(null)).when(paymentEventsKafkaTemplate).send(any(ProducerRecord.class));
+
+        DltReplayResponseDto result = replayService.replayDeadLetters(100, 3);
+
+        assertEquals(new DltReplayResponseDto(3, 1), result);
+        assertEquals(Map.of(DLT_PARTITION, new OffsetAndMetadata(3)), consumer.committed(Set.of(DLT_PARTITION)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(paymentEventsKafkaTemplate, times(3)).send(sent.capture());
+        ProducerRecord<String, Object> first = sent.getAllValues().getFirst();
+        assertEquals(PaymentEventsKafkaConfig.PAYMENT_EVENTS_TOPIC, first.topic());
+        assertEquals("0", first.key());
+        assertArrayEquals(new byte[]{0}, (byte[]) first.value());
+        assertEquals(List.of("event-format"), headerKeys(first));
+    }
+
+    @Test
+    void replayDeadLettersShouldReturnEmptyResultWhenDltDoesNotExist() {
+        givenConsumer();
+
+        DltReplayResponseDto result = replayService.replayDeadLetters(100, 1000);
+
+        assertEquals(new DltReplayResponseDto(0, 0), result);
+        verifyNoInteractions(paymentEventsKafkaTemplate);
+    }
+
+    @Test
+    void replayDeadLettersShouldRejectOversizedBatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> replayService.replayDeadLetters(PaymentEventReplayService.MAX_BATCH_SIZE + 1, 1000));
+        verifyNoInteractions(consumerFactory);
+    }
+
+    private void givenDltPartition() {
+        givenConsumer();
+        consumer.updatePartitions(DLT_PARTITION.topic(),
+                List.of(new PartitionInfo(DLT_PARTITION.topic(), 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+    }
+
+    private void givenConsumer() {
+        when(consumerFactory.createConsumer(anyString(), isNull(), isNull(), any(Properties.class))).thenReturn(consumer);
+    }
+
+    private List<String> headerKeys(ProducerRecord<String, Object> record) {
+        return Arrays.stream(record.headers().toArray()).map(Header::key).toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.config.PaymentEventsKafkaConfig;
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.entity.ProcessedPaymentEvent;
+import com.riloidx.orderservice.exception.OrderNotFoundException;
+import com.riloidx.orderservice.kafka.consumer.PaymentBatchConsumer;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.repository.ProcessedPaymentEventRepository;
+import com.riloidx.orderservice.service.OrderService;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import com.riloidx.orderservice.service.PaymentEventServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventRetryRoutingTest {
+
+    private static final PaymentEvent KNOWN = new PaymentEvent("e-1", 1L, "SUCCESS");
+    private static final PaymentEvent UNKNOWN = new PaymentEvent("e-2", 99L, "SUCCESS");
+
+    @Mock
+    private ProcessedPaymentEventRepository processedEventRepo;
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock
+    private Consumer<String, PaymentEvent> kafkaConsumer;
+    @Mock
+    private MessageListenerContainer container;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventForUnknownOrderShouldGoToRetryTopicWithoutBeingMarkedProcessed() {
+        doThrow(new OrderNotFoundException("ids", "[99]")).when(orderService)
+                .updateStatusesFromPayments(argThat(statuses -> statuses.containsKey(99L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                new SendResult<>(invocation.getArgument(0), new RecordMetadata(null, 0, 0, 0, 0, 0))));
+        lenient().when(container.getContainerProperties()).thenReturn(new ContainerProperties("payment-events"));
+
+        PaymentEventDeduplicator deduplicator = new PaymentEventDeduplicator(
+                new PaymentEventsProperties("batch", 500, 1, 4, 100, Duration.ofDays(8), 5000),
+                new PaymentEventServiceImpl(processedEventRepo, orderService), new SimpleMeterRegistry());
+        PaymentBatchConsumer listener = new PaymentBatchConsumer(deduplicator);
+        DefaultErrorHandler errorHandler = new PaymentEventsKafkaConfig().kafkaErrorHandler(kafkaTemplate);
+
+        List<ConsumerRecord<String, PaymentEvent>> records = List.of(
+                new ConsumerRecord<>(PaymentEventsKafkaConfig.PAYMENT_EVENTS_TOPIC, 0, 0, "1", KNOWN),
+                new ConsumerRecord<>(PaymentEventsKafkaConfig.PAYMENT_EVENTS_TOPIC, 0, 1, "99", UNKNOWN));
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> listener.handlePaymentEvents(records));
+
+        ConsumerRecords<String, PaymentEvent> batch = new ConsumerRecords<>(Map.of(
+                new TopicPartition(PaymentEventsKafkaConfig.PAYMENT_EVENTS_TOPIC, 0), records));
+        errorHandler.handleBatchAndReturnRemaining(failure, batch, kafkaConsumer, container, () -> { });
+
+        ArgumentCaptor<ProducerRecord<String, Object>> published = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(published.capture());
+        assertEquals(PaymentEventsKafkaConfig.FAILED_TOPIC, published.getValue().topic());
+        assertEquals(UNKNOWN, published.getValue().value());
+
+        ArgumentCaptor<Iterable<ProcessedPaymentEvent>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(processedEventRepo).saveAll(saved.capture());
+        List<String> savedIds = new ArrayList<>();
+        saved.getValue().forEach(event -> savedIds.add(event.getEventId()));
+        assertEquals(List.of("e-1"), savedIds);
+        verify(orderService).updateStatusesFromPayments(Map.of(1L, "SUCCESS"));
+        assertTrue(failure.getMessage().contains("e-2"));
+    }
+}
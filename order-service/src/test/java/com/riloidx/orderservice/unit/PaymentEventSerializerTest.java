@@ -0,0 +1,51 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventCodec;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventDeserializer;
+import com.riloidx.orderservice.kafka.serialization.PaymentEventSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PaymentEventSerializerTest {
+
+    private final PaymentEvent event = new PaymentEvent("e-1", 42L, "FAILED");
+
+    @Test
+    void serializeShouldRepublishBinaryEventAsJsonByDefault() {
+        PaymentEventSerializer serializer = new PaymentEventSerializer();
+        serializer.configure(Map.of(), false);
+        Headers headers = binaryHeaders();
+
+        byte[] payload = serializer.serialize("payment-events-failed", headers, event);
+
+        assertNull(headers.lastHeader(PaymentEventCodec.FORMAT_HEADER));
+        assertEquals(event, new PaymentEventDeserializer().deserialize("payment-events-failed", headers, payload));
+    }
+
+    @Test
+    void serializeShouldWriteBinaryWhenConfigured() {
+        PaymentEventSerializer serializer = new PaymentEventSerializer();
+        serializer.configure(Map.of(PaymentEventSerializer.FORMAT_CONFIG, "binary"), false);
+        Headers headers = new RecordHeaders();
+
+        byte[] payload = serializer.serialize("payment-events-failed", headers, event);
+
+        assertEquals(PaymentEventCodec.BINARY_FORMAT,
+                new String(headers.lastHeader(PaymentEventCodec.FORMAT_HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(event, PaymentEventCodec.decode(payload));
+    }
+
+    private Headers binaryHeaders() {
+        Headers headers = new RecordHeaders();
+        headers.add(PaymentEventCodec.FORMAT_HEADER, PaymentEventCodec.BINARY_FORMAT.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
@@ -0,0 +1,80 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.entity.ProcessedPaymentEvent;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.repository.ProcessedPaymentEventRepository;
+import com.riloidx.orderservice.service.OrderService;
+import com.riloidx.orderservice.service.PaymentEventServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventServiceImplTest {
+
+    @Mock
+    private ProcessedPaymentEventRepository processedEventRepo;
+    @Mock
+    private OrderService orderService;
+
+    @Captor
+    private ArgumentCaptor<Iterable<ProcessedPaymentEvent>> processedCaptor;
+
+    @InjectMocks
+    private PaymentEventServiceImpl service;
+
+    @Test
+    void processShouldSkipEventsAlreadyRecordedInDatabase() {
+        List<PaymentEvent> events = List.of(
+                new PaymentEvent("e-1", 1L, "SUCCESS"),
+                new PaymentEvent("e-2", 2L, "FAILED"));
+
+        when(processedEventRepo.findProcessedIds(Set.of("e-1", "e-2"))).thenReturn(Set.of("e-1"));
+
+        Set<String> handled = service.process(events);
+
+        assertEquals(Set.of("e-1", "e-2"), handled);
+        verify(orderService).updateStatusesFromPayments(Map.of(2L, "FAILED"));
+        verify(processedEventRepo).saveAll(processedCaptor.capture());
+
+        List<ProcessedPaymentEvent> saved = new ArrayList<>();
+        processedCaptor.getValue().forEach(saved::add);
+        assertEquals(1, saved.size());
+        assertEquals("e-2", saved.getFirst().getEventId());
+        assertEquals(2L, saved.getFirst().getOrderId());
+    }
+
+    @Test
+    void processShouldApplyEventsWithoutIdWithoutRecordingThem() {
+        service.process(List.of(new PaymentEvent(null, 3L, "SUCCESS")));
+
+        verify(processedEventRepo, never()).findProcessedIds(any());
+        verify(orderService).updateStatusesFromPayments(Map.of(3L, "SUCCESS"));
+        verify(processedEventRepo).saveAll(processedCaptor.capture());
+        assertFalse(processedCaptor.getValue().iterator().hasNext());
+    }
+
+    @Test
+    void processShouldKeepFirstEventPerOrderLikeSequentialProcessing() {
+        when(processedEventRepo.findProcessedIds(Set.of("e-1", "e-2"))).thenReturn(Set.of());
+
+        service.process(List.of(
+                new PaymentEvent("e-1", 1L, "SUCCESS"),
+                new PaymentEvent("e-2", 1L, "FAILED")));
+
+        verify(orderService).updateStatusesFromPayments(Map.of(1L, "SUCCESS"));
+    }
+}
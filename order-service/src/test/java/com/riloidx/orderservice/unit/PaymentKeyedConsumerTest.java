@@ -0,0 +1,107 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.kafka.consumer.PaymentKeyedConsumer;
+import com.riloidx.orderservice.kafka.event.PaymentEvent;
+import com.riloidx.orderservice.service.PaymentEventDeduplicator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentKeyedConsumerTest {
+
+    @Mock
+    private PaymentEventDeduplicator deduplicator;
+
+    @Test
+    void handlePaymentEventsShouldKeepPerKeyOrderAcrossWorkers() {
+        List<List<PaymentEvent>> lanes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> lanes.add(List.copyOf(invocation.getArgument(0))))
+                .when(deduplicator).process(anyList());
+
+        PaymentKeyedConsumer consumer = new PaymentKeyedConsumer(deduplicator, properties(4));
+        List<ConsumerRecord<String, PaymentEvent>> records = new ArrayList<>();
+        for (long offset = 0; offset < 40; offset++) {
+            long orderId = offset % 8;
+            records.add(new ConsumerRecord<>("payment-events", 0, offset, String.valueOf(orderId),
+                    new PaymentEvent("e-" + offset, orderId, "SUCCESS")));
+        }
+
+        consumer.handlePaymentEvents(records);
+
+        assertEquals(40, lanes.stream().mapToInt(List::size).sum());
+        for (long orderId = 0; orderId < 8; orderId++) {
+            long key = orderId;
+            List<List<PaymentEvent>> lanesWithKey = lanes.stream()
+                    .filter(lane -> lane.stream().anyMatch(event -> event.orderId() == key))
+                    .toList();
+            assertEquals(1, lanesWithKey.size());
+
+            List<String> eventIds = lanesWithKey.getFirst().stream()
+                    .filter(event -> event.orderId() == key)
+                    .map(PaymentEvent::eventId)
+                    .toList();
+            assertEquals(List.of("e-" + key, "e-" + (key + 8), "e-" + (key + 16), "e-" + (key + 24), "e-" + (key + 32)),
+                    eventIds);
+        }
+    }
+
+    @Test
+    void handlePaymentEventsShouldReportFailingRecordWhenAnyWorkerFails() {
+        PaymentEvent poisoned = new PaymentEvent("e-2", 2L, "SUCCESS");
+        doThrow(new IllegalStateException("database down")).when(deduplicator).process(anyList());
+        doNothing().when(deduplicator).process(List.of(new PaymentEvent("e-1", 1L, "SUCCESS")));
+
+        PaymentKeyedConsumer consumer = new PaymentKeyedConsumer(deduplicator, properties(2));
+        List<ConsumerRecord<String, PaymentEvent>> records = List.of(
+                new ConsumerRecord<>("payment-events", 0, 0, "1", new PaymentEvent("e-1", 1L, "SUCCESS")),
+                new ConsumerRecord<>("payment-events", 0, 1, "2", poisoned),
+                new ConsumerRecord<>("payment-events", 0, 2, "3", new PaymentEvent("e-3", 3L, "SUCCESS")));
+
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.handlePaymentEvents(records));
+
+        assertSame(records.get(1), e.getRecord());
+        assertEquals("database down", e.getCause().getMessage());
+        verify(deduplicator, never()).process(List.of(new PaymentEvent("e-3", 3L, "SUCCESS")));
+    }
+
+    @Test
+    void handlePaymentEventsShouldReportUnreadableRecordWithoutProcessingInLanes() {
+        PaymentKeyedConsumer consumer = new PaymentKeyedConsumer(deduplicator, properties(2));
+        List<ConsumerRecord<String, PaymentEvent>> records = List.of(
+                new ConsumerRecord<>("payment-events", 0, 0, "1", new PaymentEvent("e-1", 1L, "SUCCESS")),
+                new ConsumerRecord<>("payment-events", 0, 1, "2", null));
+
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.handlePaymentEvents(records));
+
+        assertSame(records.get(1), e.getRecord());
+        verify(deduplicator).process(List.of(new PaymentEvent("e-1", 1L, "SUCCESS")));
+        verifyNoMoreInteractions(deduplicator);
+    }
+
+    private PaymentEventsProperties properties(int workers) {
+        return new PaymentEventsProperties("keyed", 500, 1, workers, 100, Duration.ofDays(8), 5000);
+    }
+}
@@ -0,0 +1,57 @@
+package com.riloidx.orderservice.unit;
+
+import com.riloidx.orderservice.config.PaymentEventsProperties;
+import com.riloidx.orderservice.repository.ProcessedPaymentEventRepository;
+import com.riloidx.orderservice.service.ProcessedPaymentEventCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedPaymentEventCleanerTest {
+
+    @Mock
+    private ProcessedPaymentEventRepository processedEventRepo;
+
+    private ProcessedPaymentEventCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        cleaner = new ProcessedPaymentEventCleaner(processedEventRepo,
+                new PaymentEventsProperties("batch", 500, 1, 4, 100, Duration.ofDays(8), 2));
+    }
+
+    @Test
+    void deleteExpiredShouldRemoveInBatchesUntilNothingIsLeft() {
+        when(processedEventRepo.deleteProcessedBefore(any(), eq(2))).thenReturn(2, 2, 1);
+
+        cleaner.deleteExpired();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(processedEventRepo, times(3)).deleteProcessedBefore(cutoff.capture(), eq(2));
+        Instant expected = Instant.now().minus(Duration.ofDays(8));
+        assertTrue(Duration.between(cutoff.getValue(), expected).abs().compareTo(Duration.ofMinutes(1)) < 0);
+    }
+
+    @Test
+    void deleteExpiredShouldNotPropagateDatabaseFailures() {
+        when(processedEventRepo.deleteProcessedBefore(any(), eq(2))).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertDoesNotThrow(() -> cleaner.deleteExpired());
+    }
+}
@@ -0,0 +1,208 @@
+package com.riloidx.orderservice.unit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riloidx.orderservice.dto.request.UserBatchRequestDto;
+import com.riloidx.orderservice.dto.response.UserResponseDto;
+import com.riloidx.orderservice.exception.ExternalUserNotFoundException;
+import com.riloidx.orderservice.service.UserLookupService;
+import com.riloidx.orderservice.service.UserServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private Cache<Long, UserResponseDto> userCache;
+    private Cache<Long, UserResponseDto> lastKnownUserCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserLookupService service;
+
+    private final UserResponseDto alice = new UserResponseDto(1L, "Alice", "Smith", "alice@test.com");
+    private final UserResponseDto bob = new UserResponseDto(2L, "Bob", "Brown", "bob@test.com");
+
+    @BeforeEach
+    void setUp() {
+        userCache = Caffeine.newBuilder().maximumSize(100).build();
+        lastKnownUserCache = Caffeine.newBuilder().maximumSize(100).build();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UserLookupService(userServiceClient, userCache, lastKnownUserCache, meterRegistry);
+    }
+
+    @Test
+    void getUserByIdShouldCallClientOnlyOnce() {
+        when(userServiceClient.getUserById(1L)).thenReturn(alice);
+
+        assertEquals(alice, service.getUserById(1L));
+        assertEquals(alice, service.getUserById(1L));
+
+        verify(userServiceClient, times(1)).getUserById(1L);
+    }
+
+    @Test
+    void getUserByIdShouldNotCacheFallbackPlaceholder() {
+        when(userServiceClient.getUserById(1L)).thenReturn(UserResponseDto.unknown(1L), alice);
+
+        assertEquals(UserResponseDto.unknown(1L), service.getUserById(1L));
+        assertEquals(alice, service.getUserById(1L));
+
+        verify(userServiceClient, times(2)).getUserById(1L);
+    }
+
+    @Test
+    void getUsersByIdsShouldRequestOnlyMissingUsers() {
+        userCache.put(1L, alice);
+        when(userServiceClient.getUsersByIds(new UserBatchRequestDto(List.of(2L, 3L)))).thenReturn(List.of(bob));
+
+        Map<Long, UserResponseDto> result = service.getUsersByIds(List.of(1L, 2L, 3L));
+
+        assertEquals(alice, result.get(1L));
+        assertEquals(bob, result.get(2L));
+        assertEquals(UserResponseDto.unknown(3L), result.get(3L));
+        assertEquals(bob, userCache.getIfPresent(2L));
+    }
+
+    @Test
+    void getUsersByIdsShouldSplitMissesIntoBatchesUserServiceAccepts() {
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+        when(userServiceClient.getUsersByIds(any())).thenReturn(List.of());
+
+        Map<Long, UserResponseDto> result = service.getUsersByIds(ids);
+
+        ArgumentCaptor<UserBatchRequestDto> requests = ArgumentCaptor.forClass(UserBatchRequestDto.class);
+        verify(userServiceClient, times(2)).getUsersByIds(requests.capture());
+        assertEquals(List.of(1000, 500), requests.getAllValues().stream().map(request -> request.ids().size()).toList());
+        assertEquals(1500, result.size());
+    }
+
+    @Test
+    void evictShouldForceReload() {
+        when(userServiceClient.getUserById(1L)).thenReturn(alice);
+        service.getUserById(1L);
+
+        service.evict(1L);
+        service.getUserById(1L);
+
+        verify(userServiceClient, times(2)).getUserById(1L);
+    }
+
+    @Test
+    void getUserByIdShouldServeLastKnownCopyMarkedStaleWhenFallbackUsed() {
+        lastKnownUserCache.put(1L, alice);
+        when(userServiceClient.getUserById(1L)).thenReturn(UserResponseDto.unknown(1L));
+
+        UserResponseDto result = service.getUserById(1L);
+
+        assertTrue(result.stale());
+        assertEquals(alice.email(), result.email());
+        assertNull(userCache.getIfPresent(1L));
+    }
+
+    @Test
+    void getUsersByIdsShouldServeLastKnownCopiesWhenFallbackUsed() {
+        lastKnownUserCache.put(2L, bob);
+        when(userServiceClient.getUsersByIds(new UserBatchRequestDto(List.of(2L, 3L))))
+                .thenReturn(List.of(UserResponseDto.unknown(2L), UserResponseDto.unknown(3L)));
+
+        Map<Long, UserResponseDto> result = service.getUsersByIds(List.of(2L, 3L));
+
+        assertEquals(bob.asStale(), result.get(2L));
+        assertEquals(UserResponseDto.unknown(3L), result.get(3L));
+    }
+
+    @Test
+    void refreshStaleUsersShouldReloadOnlyUsersServedStale() {
+        lastKnownUserCache.put(1L, alice);
+        when(userServiceClient.getUserById(1L)).thenReturn(UserResponseDto.unknown(1L));
+        service.getUserById(1L);
+
+        UserResponseDto renamed = new UserResponseDto(1L, "Alicia", "Smith", "alice@test.com");
+        when(userServiceClient.getUsersByIds(new UserBatchRequestDto(List.of(1L)))).thenReturn(List.of(renamed));
+
+        service.refreshStaleUsers();
+        service.refreshStaleUsers();
+
+        assertEquals(renamed, userCache.getIfPresent(1L));
+        assertEquals(renamed, service.getUserById(1L));
+        verify(userServiceClient, times(1)).getUsersByIds(any());
+    }
+
+    @Test
+    void concurrentLookupsForSameIdShouldShareSingleCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userServiceClient.getUserById(1L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return alice;
+        });
+
+        CompletableFuture<UserResponseDto> first = CompletableFuture.supplyAsync(() -> service.getUserById(1L));
+        awaitCoalesced(0);
+        CompletableFuture<UserResponseDto> second = CompletableFuture.supplyAsync(() -> service.getUserById(1L));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertEquals(alice, first.get(5, TimeUnit.SECONDS));
+        assertEquals(alice, second.get(5, TimeUnit.SECONDS));
+        verify(userServiceClient, times(1)).getUserById(1L);
+    }
+
+    @Test
+    void concurrentLookupsShouldShareFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userServiceClient.getUserById(1L)).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new ExternalUserNotFoundException("id", "1");
+        });
+
+        CompletableFuture<UserResponseDto> first = CompletableFuture.supplyAsync(() -> service.getUserById(1L));
+        awaitCoalesced(0);
+        CompletableFuture<UserResponseDto> second = CompletableFuture.supplyAsync(() -> service.getUserById(1L));
+        awaitCoalesced(1);
+        release.countDown();
+
+        ExecutionException firstError = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException secondError = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ExternalUserNotFoundException.class, firstError.getCause());
+        assertInstanceOf(ExternalUserNotFoundException.class, secondError.getCause());
+        verify(userServiceClient, times(1)).getUserById(1L);
+    }
+
+    private void awaitCoalesced(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            double inFlight = meterRegistry.get("user.lookup.in-flight").gauge().value();
+            double coalesced = meterRegistry.get("user.lookup.coalesced").counter().count();
+            if (inFlight == 1 && coalesced == expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Lookup did not reach the expected in-flight state");
+    }
+}
@@ -0,0 +1,84 @@
+package com.riloidx.paymentservice.benchmark;
+
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import com.riloidx.paymentservice.kafka.serialization.PaymentEventCodec;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaymentEventSerializationBenchmark {
+
+    private static final String TOPIC = "payment-events";
+
+    private final PaymentEvent event = new PaymentEvent("6750c1f2a9b3c45d8e7f0123", 1_234_567L, "SUCCESS");
+
+    private JsonSerializer<PaymentEvent> jsonSerializer;
+    private JsonDeserializer<PaymentEvent> jsonDeserializer;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>(PaymentEvent.class, false);
+        json = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        binary = PaymentEventCodec.encode(event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        jsonDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serializeJson(PayloadBytes bytes) {
+        byte[] payload = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        bytes.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] serializeBinary(PayloadBytes bytes) {
+        byte[] payload = PaymentEventCodec.encode(event);
+        bytes.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public PaymentEvent deserializeJson() {
+        return jsonDeserializer.deserialize(TOPIC, new RecordHeaders(), json);
+    }
+
+    @Benchmark
+    public PaymentEvent deserializeBinary() {
+        return PaymentEventCodec.decode(binary);
+    }
+
+    // Reported as bytes per millisecond; divide by the benchmark score to get bytes per event.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PayloadBytes {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.riloidx.paymentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "payment.outbox")
+public record OutboxProperties(
+        int batchSize,
+        Duration linger,
+        Duration leaseDuration,
+        Duration orphanTimeout
+) {}
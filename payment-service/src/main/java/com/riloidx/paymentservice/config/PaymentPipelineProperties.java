@@ -0,0 +1,13 @@
+package com.riloidx.paymentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "payment.pipeline")
+public record PaymentPipelineProperties(
+        int capacity,
+        Duration shutdownTimeout,
+        Duration staleAfter,
+        int maxRecoveryAttempts
+) {}
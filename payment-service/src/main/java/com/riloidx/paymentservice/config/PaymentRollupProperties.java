@@ -0,0 +1,11 @@
+package com.riloidx.paymentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "payment.rollups")
+public record PaymentRollupProperties(
+        String rebuildCron,
+        Duration leaseDuration
+) {}
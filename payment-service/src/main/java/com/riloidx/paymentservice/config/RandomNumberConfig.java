@@ -0,0 +1,17 @@
+package com.riloidx.paymentservice.config;
+
+import com.riloidx.paymentservice.integration.LocalRandomNumberSource;
+import com.riloidx.paymentservice.integration.RandomNumberSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RandomNumberConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RandomNumberSource.class)
+    public RandomNumberSource localRandomNumberSource() {
+        return new LocalRandomNumberSource();
+    }
+}
@@ -0,0 +1,15 @@
+package com.riloidx.paymentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "payment.random-numbers")
+public record RandomNumberProperties(
+        int lowWatermark,
+        int highWatermark,
+        int refillBatchSize,
+        int maxCallsPerRefill,
+        Duration refillInterval,
+        Duration failureBackoff
+) {}
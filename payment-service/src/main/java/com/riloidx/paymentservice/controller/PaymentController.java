@@ -2,8 +2,11 @@ package com.riloidx.paymentservice.controller;
 
 import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
 import com.riloidx.paymentservice.dto.response.PaymentResponseDto;
+import com.riloidx.paymentservice.dto.response.RollupRebuildResponseDto;
 import com.riloidx.paymentservice.dto.response.TotalSum;
 import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.service.PaymentAcceptancePipeline;
+import com.riloidx.paymentservice.service.PaymentRollupService;
 import com.riloidx.paymentservice.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +14,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +26,8 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentAcceptancePipeline paymentPipeline;
+    private final PaymentRollupService paymentRollups;
 
     @PostMapping
     public ResponseEntity<PaymentResponseDto> create(@RequestBody @Valid PaymentCreateDto createDto) {
@@ -29,6 +36,25 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    @PostMapping("/async")
+    public ResponseEntity<PaymentResponseDto> accept(@RequestBody @Valid PaymentCreateDto createDto) {
+        PaymentResponseDto res = paymentPipeline.accept(createDto);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/payments/{id}")
+                        .buildAndExpand(res.id())
+                        .toUri())
+                .body(res);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PaymentResponseDto> getById(@PathVariable String id) {
+        PaymentResponseDto res = paymentPipeline.findStatus(id);
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<PaymentResponseDto>> getByUserId(@PathVariable Long userId) {
         List<PaymentResponseDto> res = paymentService.findByUserId(userId);
@@ -68,4 +94,13 @@ public class PaymentController {
 
         return ResponseEntity.status(HttpStatus.OK).body(res);
     }
+
+    @PostMapping("/admin/rollups/rebuild")
+    public ResponseEntity<RollupRebuildResponseDto> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        RollupRebuildResponseDto res = paymentRollups.rebuild(from, to);
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
 }
@@ -0,0 +1,5 @@
+package com.riloidx.paymentservice.dto.response;
+
+import java.time.LocalDate;
+
+public record RollupRebuildResponseDto(LocalDate from, LocalDate to, long days) {}
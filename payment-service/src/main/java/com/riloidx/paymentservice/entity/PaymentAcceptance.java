@@ -0,0 +1,65 @@
+package com.riloidx.paymentservice.entity;
+
+import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
+import com.riloidx.paymentservice.dto.response.PaymentResponseDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// Record of a payment accepted for asynchronous processing. It answers status lookups on every replica until
+// the payment is stored, and keeps the outcome when processing fails.
+@Getter
+@Setter
+@NoArgsConstructor
+@Document(collection = "payment_acceptances")
+public class PaymentAcceptance {
+
+    @Id
+    private String id;
+
+    @Field("order_id")
+    private Long orderId;
+
+    @Field("user_id")
+    private Long userId;
+
+    @Field("status")
+    private PaymentStatus status;
+
+    @Field("accepted_at")
+    private Instant acceptedAt;
+
+    @Field("payment_amount")
+    private BigDecimal paymentAmount;
+
+    @Field("last_attempt_at")
+    private Instant lastAttemptAt;
+
+    @Field("recovery_attempts")
+    private int recoveryAttempts;
+
+    public static PaymentAcceptance pending(String id, PaymentCreateDto paymentCreateDto) {
+        PaymentAcceptance acceptance = new PaymentAcceptance();
+        acceptance.setId(id);
+        acceptance.setOrderId(paymentCreateDto.orderId());
+        acceptance.setUserId(paymentCreateDto.userId());
+        acceptance.setStatus(PaymentStatus.PENDING);
+        acceptance.setAcceptedAt(Instant.now());
+        acceptance.setPaymentAmount(paymentCreateDto.paymentAmount());
+        return acceptance;
+    }
+
+    public PaymentCreateDto toCreateDto() {
+        return new PaymentCreateDto(orderId, userId, paymentAmount);
+    }
+
+    public PaymentResponseDto toDto() {
+        return new PaymentResponseDto(id, orderId, userId, status.name(), acceptedAt, paymentAmount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.riloidx.paymentservice.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Setter
+@Document(collection = "payment_daily_totals")
+public class PaymentDailyTotal {
+
+    @Id
+    private String id;
+
+    @Field("user_id")
+    private Long userId;
+
+    @Field("day")
+    private Instant day;
+
+    @Field(name = "total", targetType = FieldType.DECIMAL128)
+    private BigDecimal total;
+
+    @Field("count")
+    private long count;
+
+    @Field("rebuild_id")
+    private String rebuildId;
+}
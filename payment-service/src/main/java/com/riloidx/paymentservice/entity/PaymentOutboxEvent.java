@@ -0,0 +1,50 @@
+package com.riloidx.paymentservice.entity;
+
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Document(collection = "payment_outbox")
+public class PaymentOutboxEvent {
+
+    @Id
+    private String id;
+
+    @Field("order_id")
+    private Long orderId;
+
+    @Field("status")
+    private PaymentStatus status;
+
+    @Field("created_at")
+    private Instant createdAt;
+
+    @Field("lease_until")
+    private Instant leaseUntil;
+
+    @Field("lease_token")
+    private String leaseToken;
+
+    public static PaymentOutboxEvent of(Payment payment) {
+        PaymentOutboxEvent event = new PaymentOutboxEvent();
+        event.setId(payment.getId());
+        event.setOrderId(payment.getOrderId());
+        event.setStatus(payment.getStatus());
+        event.setCreatedAt(payment.getTimestamp());
+        event.setLeaseUntil(payment.getTimestamp());
+        return event;
+    }
+
+    public PaymentEvent toEvent() {
+        return new PaymentEvent(id, orderId, status.name());
+    }
+}
@@ -0,0 +1,30 @@
+package com.riloidx.paymentservice.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Document(collection = "payment_rollup_state")
+public class PaymentRollupState {
+
+    public static final String ID = "daily_totals";
+
+    @Id
+    private String id;
+
+    // First UTC day from which the daily totals hold every successful payment. Earlier days are read from payments.
+    @Field("complete_from")
+    private Instant completeFrom;
+
+    @Field("lease_until")
+    private Instant leaseUntil;
+
+    @Field("lease_owner")
+    private String leaseOwner;
+}
@@ -5,6 +5,7 @@ import com.riloidx.paymentservice.dto.response.ErrorResponse;
 import com.riloidx.paymentservice.dto.response.ValidationErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -27,6 +28,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e,
+                                                                        HttpServletRequest request) {
+        log.warn("Invalid argument on request to {}: {}", request.getRequestURI(), e.getMessage());
+        var body = buildErrorResponse(e, HttpStatus.BAD_REQUEST, request);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
+    @ExceptionHandler(RollupRebuildInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleRollupRebuildInProgressException(RollupRebuildInProgressException e,
+                                                                                HttpServletRequest request) {
+        log.warn("Rejected rollup rebuild on {}: {}", request.getRequestURI(), e.getMessage());
+        var body = buildErrorResponse(e, HttpStatus.CONFLICT, request);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     @ExceptionHandler(ExternalServiceException.class)
     public ResponseEntity<ErrorResponse> handleExternalServiceException(ExternalServiceException e,
                                                                         HttpServletRequest request) {
@@ -35,4 +54,24 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(body);
     }
+
+    @ExceptionHandler(PaymentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentNotFoundException(PaymentNotFoundException e,
+                                                                        HttpServletRequest request) {
+        log.warn("Payment not found on {}: {}", request.getRequestURI(), e.getMessage());
+        var body = buildErrorResponse(e, HttpStatus.NOT_FOUND, request);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    @ExceptionHandler(PaymentPipelineFullException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentPipelineFullException(PaymentPipelineFullException e,
+                                                                            HttpServletRequest request) {
+        log.warn("Rejected payment on {}: {}", request.getRequestURI(), e.getMessage());
+        var body = buildErrorResponse(e, HttpStatus.SERVICE_UNAVAILABLE, request);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
 }
@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.exception;
+
+public class PaymentNotFoundException extends RuntimeException {
+    public PaymentNotFoundException(String message) {
+        super(message);
+    }
+}
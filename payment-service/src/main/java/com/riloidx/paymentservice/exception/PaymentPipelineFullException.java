@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.exception;
+
+public class PaymentPipelineFullException extends RuntimeException {
+    public PaymentPipelineFullException(String message) {
+        super(message);
+    }
+}
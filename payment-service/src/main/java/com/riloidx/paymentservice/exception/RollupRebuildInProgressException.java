@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.exception;
+
+public class RollupRebuildInProgressException extends RuntimeException {
+    public RollupRebuildInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.riloidx.paymentservice.integration;
+
+import java.security.SecureRandom;
+
+public class LocalRandomNumberSource implements RandomNumberSource {
+
+    private static final int MIN = 1;
+    private static final int MAX = 100;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public int nextNumber() {
+        return random.nextInt(MIN, MAX + 1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.riloidx.paymentservice.integration;
+
+import com.riloidx.paymentservice.config.RandomNumberProperties;
+import com.riloidx.paymentservice.exception.ExternalServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Payments take numbers from a buffer that a background thread keeps between the low and high watermark,
+// so the external API is never called on the request path. When the buffer runs dry the local source decides.
+// A refill run makes a bounded number of upstream calls, and after a failure refills pause for a backoff window.
+@Slf4j
+@Component
+public class RandomNumberBuffer {
+
+    private final RandomNumberClient randomNumberClient;
+    private final RandomNumberSource fallbackSource;
+    private final RandomNumberProperties properties;
+    private final BlockingQueue<Integer> buffer;
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private volatile long backoffUntilNanos = System.nanoTime();
+    private final ExecutorService refillExecutor;
+    private final Timer refillLatency;
+    private final Counter refillFailures;
+    private final Counter fallbacks;
+
+    public RandomNumberBuffer(RandomNumberClient randomNumberClient,
+                              RandomNumberSource fallbackSource,
+                              RandomNumberProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.randomNumberClient = randomNumberClient;
+        this.fallbackSource = fallbackSource;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.highWatermark());
+        this.refillExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("random-refill-"));
+
+        Gauge.builder("payment.random.buffer.depth", buffer, BlockingQueue::size)
+                .description("Pre-fetched random numbers waiting to be used")
+                .register(meterRegistry);
+        this.refillLatency = Timer.builder("payment.random.refill.latency")
+                .description("Time to fetch one refill batch from the random number API")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.refillFailures = Counter.builder("payment.random.refill.failures")
+                .description("Refill batches aborted because the random number API failed")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("payment.random.fallbacks")
+                .description("Payment decisions made by the local source because the buffer was empty")
+                .register(meterRegistry);
+    }
+
+    public int next() {
+        Integer number = buffer.poll();
+        if (buffer.size() < properties.lowWatermark()) {
+            triggerRefill();
+        }
+        if (number != null) {
+            return number;
+        }
+
+        fallbacks.increment();
+        log.debug("Random number buffer is empty, using local source");
+        return fallbackSource.nextNumber();
+    }
+
+    public int depth() {
+        return buffer.size();
+    }
+
+    @Scheduled(fixedDelayString = "${payment.random-numbers.refill-interval:1s}")
+    public void refillIfLow() {
+        if (buffer.size() < properties.lowWatermark()) {
+            triggerRefill();
+        }
+    }
+
+    public boolean triggerRefill() {
+        if (System.nanoTime() - backoffUntilNanos < 0 || !refillScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    refill();
+                } finally {
+                    refillScheduled.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refillScheduled.set(false);
+            return false;
+        }
+    }
+
+    public synchronized void refill() {
+        int calls = 0;
+        while (buffer.remainingCapacity() > 0 && calls < properties.maxCallsPerRefill()) {
+            int batch = Math.min(properties.refillBatchSize(), properties.maxCallsPerRefill() - calls);
+            Timer.Sample sample = Timer.start();
+            try {
+                fetchBatch(batch);
+            } catch (RuntimeException e) {
+                refillFailures.increment();
+                backoffUntilNanos = System.nanoTime() + properties.failureBackoff().toNanos();
+                log.warn("Random number refill failed with {} numbers buffered, pausing refills for {}: {}",
+                        buffer.size(), properties.failureBackoff(), e.getMessage());
+                return;
+            } finally {
+                sample.stop(refillLatency);
+            }
+            calls += batch;
+        }
+        backoffUntilNanos = System.nanoTime();
+    }
+
+    public synchronized void clear() {
+        buffer.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refillExecutor.shutdownNow();
+    }
+
+    private void fetchBatch(int maxCalls) {
+        for (int call = 0; call < maxCalls && buffer.remainingCapacity() > 0; call++) {
+            List<RandomNumberResponseDto> response = randomNumberClient.getRandomNumber();
+            if (response == null || response.isEmpty()) {
+                throw new ExternalServiceException("External service return null");
+            }
+            for (RandomNumberResponseDto number : response) {
+                if ("error".equalsIgnoreCase(number.status())) {
+                    throw new ExternalServiceException("External service returned an error");
+                }
+                if (!buffer.offer(number.random())) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.riloidx.paymentservice.integration;
+
+public interface RandomNumberSource {
+
+    int nextNumber();
+}
@@ -0,0 +1,123 @@
+package com.riloidx.paymentservice.kafka.outbox;
+
+import com.riloidx.paymentservice.config.OutboxProperties;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import com.riloidx.paymentservice.repository.PaymentOutboxRepository;
+import com.riloidx.paymentservice.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PaymentOutboxRelay {
+
+    public static final String TOPIC = "payment-events";
+
+    private final PaymentOutboxRepository outboxRepo;
+    private final PaymentRepository paymentRepo;
+    private final KafkaTemplate<String, PaymentEvent> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final Timer publishLag;
+    private final Counter orphans;
+
+    public PaymentOutboxRelay(PaymentOutboxRepository outboxRepo,
+                              PaymentRepository paymentRepo,
+                              KafkaTemplate<String, PaymentEvent> kafkaTemplate,
+                              OutboxProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.outboxRepo = outboxRepo;
+        this.paymentRepo = paymentRepo;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.publishLag = Timer.builder("payment.outbox.publish.lag")
+                .description("Time from writing a payment event to the outbox until Kafka acknowledged it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.orphans = Counter.builder("payment.outbox.orphans")
+                .description("Outbox entries dropped because their payment was never saved")
+                .register(meterRegistry);
+    }
+
+    // The delay between runs is the linger: events written meanwhile go out together in the next batch.
+    // Draining continues only while whole batches are relayed; entries that are claimed but not relayed are
+    // waiting for their payment or for the broker, and claiming them again at once would only spin.
+    @Scheduled(fixedDelayString = "${payment.outbox.linger:100ms}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == properties.batchSize());
+    }
+
+    public int relayBatch() {
+        String leaseToken = UUID.randomUUID().toString();
+        List<PaymentOutboxEvent> claimed = outboxRepo.claimBatch(leaseToken, properties.batchSize(),
+                properties.leaseDuration());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> savedPayments = paymentRepo.findByIdIn(claimed.stream().map(PaymentOutboxEvent::getId).toList())
+                .stream()
+                .map(Payment::getId)
+                .collect(Collectors.toSet());
+
+        Map<PaymentOutboxEvent, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        List<String> done = new ArrayList<>();
+        List<String> notYetSaved = new ArrayList<>();
+        Instant orphanedBefore = Instant.now().minus(properties.orphanTimeout());
+
+        for (PaymentOutboxEvent event : claimed) {
+            if (savedPayments.contains(event.getId())) {
+                sends.put(event, send(event));
+            } else if (event.getCreatedAt().isBefore(orphanedBefore)) {
+                log.warn("Dropping outbox entry {} for order {}: payment was never saved", event.getId(), event.getOrderId());
+                orphans.increment();
+                done.add(event.getId());
+            } else {
+                notYetSaved.add(event.getId());
+            }
+        }
+
+        sends.forEach((event, send) -> {
+            try {
+                send.join();
+                publishLag.record(Duration.between(event.getCreatedAt(), Instant.now()));
+                done.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish payment event {}, retrying after the lease expires", event.getId(), e);
+            }
+        });
+
+        outboxRepo.deleteClaimed(done, leaseToken);
+        outboxRepo.releaseClaimed(notYetSaved, leaseToken, Instant.now().plus(properties.linger()));
+        log.debug("Relayed {} of {} claimed payment events", done.size(), claimed.size());
+        return done.size();
+    }
+
+    private CompletableFuture<?> send(PaymentOutboxEvent event) {
+        try {
+            return kafkaTemplate.send(TOPIC, String.valueOf(event.getOrderId()), event.toEvent());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
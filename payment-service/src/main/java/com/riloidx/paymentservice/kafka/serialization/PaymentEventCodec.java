@@ -0,0 +1,161 @@
+package com.riloidx.paymentservice.kafka.serialization;
+
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Layout: schema version, presence flags, then present fields in order. Newer versions only append fields behind
+// new flag bits and send new statuses as literals, so older readers ignore what they do not know.
+public final class PaymentEventCodec {
+
+    public static final String FORMAT_HEADER = "event-format";
+    public static final String BINARY_FORMAT = "binary";
+    public static final byte SCHEMA_VERSION = 1;
+
+    private static final int HAS_EVENT_ID = 1;
+    private static final int HAS_ORDER_ID = 1 << 1;
+    private static final int HAS_STATUS = 1 << 2;
+
+    private static final int STATUS_LITERAL = 0;
+    private static final String[] STATUS_CODES = {null, "SUCCESS", "FAILED"};
+
+    private PaymentEventCodec() {
+    }
+
+    public static byte[] encode(PaymentEvent event) {
+        byte[] eventId = event.eventId() == null ? null : event.eventId().getBytes(StandardCharsets.UTF_8);
+        int statusCode = statusCode(event.status());
+        byte[] statusLiteral = event.status() != null && statusCode == STATUS_LITERAL
+                ? event.status().getBytes(StandardCharsets.UTF_8)
+                : null;
+
+        int flags = 0;
+        int size = 2;
+        if (eventId != null) {
+            flags |= HAS_EVENT_ID;
+            size += varIntSize(eventId.length) + eventId.length;
+        }
+        if (event.orderId() != null) {
+            flags |= HAS_ORDER_ID;
+            size += varLongSize(zigZag(event.orderId()));
+        }
+        if (event.status() != null) {
+            flags |= HAS_STATUS;
+            size += 1 + (statusLiteral == null ? 0 : varIntSize(statusLiteral.length) + statusLiteral.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(SCHEMA_VERSION);
+        buffer.put((byte) flags);
+        if (eventId != null) {
+            writeBytes(buffer, eventId);
+        }
+        if (event.orderId() != null) {
+            writeVarLong(buffer, zigZag(event.orderId()));
+        }
+        if (event.status() != null) {
+            buffer.put((byte) statusCode);
+            if (statusLiteral != null) {
+                writeBytes(buffer, statusLiteral);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static PaymentEvent decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            byte version = buffer.get();
+            if (version < 1) {
+                throw new SerializationException("Unsupported payment event schema version " + version);
+            }
+            int flags = buffer.get();
+
+            String eventId = (flags & HAS_EVENT_ID) != 0 ? readString(buffer) : null;
+            Long orderId = (flags & HAS_ORDER_ID) != 0 ? unZigZag(readVarLong(buffer)) : null;
+            String status = null;
+            if ((flags & HAS_STATUS) != 0) {
+                int code = buffer.get() & 0xFF;
+                status = code == STATUS_LITERAL ? readString(buffer) : statusName(code);
+            }
+            return new PaymentEvent(eventId, orderId, status);
+        } catch (BufferUnderflowException e) {
+            throw new SerializationException("Truncated binary payment event", e);
+        }
+    }
+
+    private static int statusCode(String status) {
+        for (int code = 1; code < STATUS_CODES.length; code++) {
+            if (STATUS_CODES[code].equals(status)) {
+                return code;
+            }
+        }
+        return STATUS_LITERAL;
+    }
+
+    private static String statusName(int code) {
+        if (code >= STATUS_CODES.length) {
+            throw new SerializationException("Unknown payment status code " + code);
+        }
+        return STATUS_CODES[code];
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        writeVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new SerializationException("Malformed string length in binary payment event");
+        }
+        String value = new String(buffer.array(), buffer.position(), (int) length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + (int) length);
+        return value;
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in binary payment event");
+    }
+
+    private static int varIntSize(int value) {
+        return varLongSize(value);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.riloidx.paymentservice.kafka.serialization;
+
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class PaymentEventSerializer implements Serializer<PaymentEvent> {
+
+    public static final String FORMAT_CONFIG = "payment.events.format";
+
+    private static final byte[] BINARY_FORMAT_VALUE = PaymentEventCodec.BINARY_FORMAT.getBytes(StandardCharsets.UTF_8);
+
+    private final JsonSerializer<PaymentEvent> jsonSerializer = new JsonSerializer<>();
+    private boolean binary;
+
+    // JSON stays the default until every consumer can read the binary format.
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object format = configs.get(FORMAT_CONFIG);
+        binary = format != null && PaymentEventCodec.BINARY_FORMAT.equalsIgnoreCase(format.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, PaymentEvent data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, PaymentEvent data) {
+        if (!binary || data == null) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+        headers.remove(PaymentEventCodec.FORMAT_HEADER);
+        headers.add(PaymentEventCodec.FORMAT_HEADER, BINARY_FORMAT_VALUE);
+        return PaymentEventCodec.encode(data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
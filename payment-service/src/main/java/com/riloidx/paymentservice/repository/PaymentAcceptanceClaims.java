@@ -0,0 +1,11 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentAcceptance;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface PaymentAcceptanceClaims {
+
+    Optional<PaymentAcceptance> claimStale(Instant staleBefore);
+}
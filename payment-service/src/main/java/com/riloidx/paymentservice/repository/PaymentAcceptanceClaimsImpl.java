@@ -0,0 +1,34 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentAcceptance;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class PaymentAcceptanceClaimsImpl implements PaymentAcceptanceClaims {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Moving lastAttemptAt forward in the same findAndModify hands each stale acceptance to exactly one replica.
+    @Override
+    public Optional<PaymentAcceptance> claimStale(Instant staleBefore) {
+        Query stale = new Query(Criteria.where("status").is(PaymentStatus.PENDING)
+                .and("acceptedAt").lt(staleBefore)
+                .orOperator(
+                        Criteria.where("lastAttemptAt").exists(false),
+                        Criteria.where("lastAttemptAt").lt(staleBefore)));
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(stale,
+                new Update().set("lastAttemptAt", Instant.now()).inc("recoveryAttempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                PaymentAcceptance.class));
+    }
+}
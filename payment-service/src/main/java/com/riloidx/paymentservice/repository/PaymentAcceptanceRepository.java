@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentAcceptance;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface PaymentAcceptanceRepository extends MongoRepository<PaymentAcceptance, String>, PaymentAcceptanceClaims {
+}
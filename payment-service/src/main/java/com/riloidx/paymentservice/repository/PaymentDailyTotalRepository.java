@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentDailyTotal;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface PaymentDailyTotalRepository extends MongoRepository<PaymentDailyTotal, String>, PaymentRollups {
+}
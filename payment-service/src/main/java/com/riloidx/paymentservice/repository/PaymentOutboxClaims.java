@@ -0,0 +1,17 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentOutboxClaims {
+
+    List<PaymentOutboxEvent> claimBatch(String leaseToken, int batchSize, Duration leaseDuration);
+
+    long deleteClaimed(Collection<String> ids, String leaseToken);
+
+    long releaseClaimed(Collection<String> ids, String leaseToken, Instant retryAt);
+}
@@ -0,0 +1,67 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PaymentOutboxClaimsImpl implements PaymentOutboxClaims {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Candidates are leased with a conditional update, so when several replicas race for the same entries each
+    // one only gets the entries whose lease it actually moved forward.
+    @Override
+    public List<PaymentOutboxEvent> claimBatch(String leaseToken, int batchSize, Duration leaseDuration) {
+        Instant now = Instant.now();
+
+        Query candidates = new Query(Criteria.where("leaseUntil").lte(now))
+                .with(Sort.by("leaseUntil"))
+                .limit(batchSize);
+        candidates.fields().include("id");
+        List<String> ids = mongoTemplate.find(candidates, PaymentOutboxEvent.class).stream()
+                .map(PaymentOutboxEvent::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("id").in(ids).and("leaseUntil").lte(now)),
+                new Update().set("leaseToken", leaseToken).set("leaseUntil", now.plus(leaseDuration)),
+                PaymentOutboxEvent.class);
+
+        return mongoTemplate.find(new Query(Criteria.where("leaseToken").is(leaseToken)), PaymentOutboxEvent.class);
+    }
+
+    @Override
+    public long deleteClaimed(Collection<String> ids, String leaseToken) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(claimed(ids, leaseToken), PaymentOutboxEvent.class).getDeletedCount();
+    }
+
+    @Override
+    public long releaseClaimed(Collection<String> ids, String leaseToken, Instant retryAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(claimed(ids, leaseToken),
+                new Update().set("leaseUntil", retryAt).unset("leaseToken"),
+                PaymentOutboxEvent.class).getModifiedCount();
+    }
+
+    private Query claimed(Collection<String> ids, String leaseToken) {
+        return new Query(Criteria.where("id").in(ids).and("leaseToken").is(leaseToken));
+    }
+}
@@ -0,0 +1,7 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface PaymentOutboxRepository extends MongoRepository<PaymentOutboxEvent, String>, PaymentOutboxClaims {
+}
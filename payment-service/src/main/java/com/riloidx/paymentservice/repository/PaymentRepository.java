@@ -5,27 +5,39 @@ import com.riloidx.paymentservice.entity.Payment;
 import com.riloidx.paymentservice.entity.PaymentStatus;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface PaymentRepository extends MongoRepository<Payment, String> {
+
+    // Exactly the fields a list response needs. The user and status indexes carry all of them, so those
+    // lookups are answered from the index without fetching documents.
+    String LIST_FIELDS = "{ '_id': 1, 'order_id': 1, 'user_id': 1, 'status': 1, 'timestamp': 1, 'payment_amount': 1 }";
+
+    @Query(value = "{ 'user_id': ?0 }", fields = LIST_FIELDS)
     List<Payment> findByUserId(Long userId);
 
+    @Query(value = "{ 'order_id': ?0 }", fields = LIST_FIELDS)
     List<Payment> findByOrderId(Long orderId);
 
+    @Query(value = "{ 'status': ?0 }", fields = LIST_FIELDS)
     List<Payment> findByStatus(PaymentStatus status);
 
+    List<Payment> findByIdIn(Collection<String> ids);
+
     @Aggregation(pipeline = {
-            "{ $match: { 'user_id': ?0, 'timestamp': { $gte: ?1, $lte: ?2 }, 'status': 'SUCCESS' } }",
+            "{ $match: { 'user_id': ?0, 'timestamp': { $gte: ?1, $lt: ?2 }, 'status': 'SUCCESS' } }",
             "{ $group: { _id: null, total: { $sum: { $toDecimal: '$payment_amount' } } } }"
     })
-    TotalSum sumAmountByUserIdAndDateRange(Long userId, Instant start, Instant end);
+    TotalSum sumAmountByUserIdAndDateRange(Long userId, Instant start, Instant endExclusive);
 
     @Aggregation(pipeline = {
-            "{ $match: { 'timestamp': { $gte: ?0, $lte: ?1 }, 'status': 'SUCCESS' } }",
+            "{ $match: { 'timestamp': { $gte: ?0, $lt: ?1 }, 'status': 'SUCCESS' } }",
             "{ $group: { _id: null, total: { $sum: { $toDecimal: '$payment_amount' } } } }"
     })
-    TotalSum sumAmountForDateRange(Instant start, Instant end);
+    TotalSum sumAmountForDateRange(Instant start, Instant endExclusive);
 
 }
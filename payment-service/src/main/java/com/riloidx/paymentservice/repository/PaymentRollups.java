@@ -0,0 +1,30 @@
+package com.riloidx.paymentservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface PaymentRollups {
+
+    void add(Long userId, Instant timestamp, BigDecimal amount);
+
+    BigDecimal sumUserDays(Long userId, LocalDate fromDay, LocalDate toDayExclusive);
+
+    BigDecimal sumGlobalDays(LocalDate fromDay, LocalDate toDayExclusive);
+
+    void rebuild(LocalDate fromDay, LocalDate toDayExclusive);
+
+    Optional<LocalDate> completeFrom();
+
+    void initCompleteFrom(LocalDate day);
+
+    void extendCompleteFrom(LocalDate fromDay, LocalDate toDayExclusive);
+
+    Optional<LocalDate> firstSuccessfulPaymentDay();
+
+    boolean tryLock(String owner, Duration leaseDuration);
+
+    void unlock(String owner);
+}
@@ -0,0 +1,201 @@
+package com.riloidx.paymentservice.repository;
+
+import com.riloidx.paymentservice.dto.response.TotalSum;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentDailyTotal;
+import com.riloidx.paymentservice.entity.PaymentRollupState;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class PaymentRollupsImpl implements PaymentRollups {
+
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String GLOBAL_KEY_PREFIX = "global:";
+
+    private final MongoTemplate mongoTemplate;
+
+    // Every successful payment bumps its user's day and the global day in one unordered bulk write.
+    @Override
+    public void add(Long userId, Instant timestamp, BigDecimal amount) {
+        LocalDate day = LocalDate.ofInstant(timestamp, ZoneOffset.UTC);
+        Decimal128 increment = new Decimal128(amount);
+
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PaymentDailyTotal.class)
+                .upsert(byId(USER_KEY_PREFIX + userId + ":" + day), increment(userId, day, increment))
+                .upsert(byId(GLOBAL_KEY_PREFIX + day), increment(null, day, increment))
+                .execute();
+    }
+
+    @Override
+    public BigDecimal sumUserDays(Long userId, LocalDate fromDay, LocalDate toDayExclusive) {
+        return sum(Criteria.where("userId").is(userId), fromDay, toDayExclusive);
+    }
+
+    @Override
+    public BigDecimal sumGlobalDays(LocalDate fromDay, LocalDate toDayExclusive) {
+        return sum(Criteria.where("userId").is(null), fromDay, toDayExclusive);
+    }
+
+    // Recomputes whole days from the payments collection on the server. Existing totals are replaced in place
+    // through $merge so readers never see an emptied day; totals this run did not produce are removed afterwards.
+    @Override
+    public void rebuild(LocalDate fromDay, LocalDate toDayExclusive) {
+        String rebuildId = UUID.randomUUID().toString();
+
+        Document match = new Document("$match", new Document("status", PaymentStatus.SUCCESS.name())
+                .append("timestamp", new Document("$gte", toDate(fromDay)).append("$lt", toDate(toDayExclusive))));
+        Document day = new Document("$dateTrunc", new Document("date", "$timestamp").append("unit", "day"));
+        Document amount = new Document("$sum", new Document("$toDecimal", "$payment_amount"));
+        Document dayKey = new Document("$dateToString", new Document("format", "%Y-%m-%d").append("date", "$_id.day"));
+
+        List<Document> perUser = List.of(match,
+                new Document("$group", new Document("_id", new Document("user_id", "$user_id").append("day", day))
+                        .append("total", amount)
+                        .append("count", new Document("$sum", 1))),
+                new Document("$project", new Document("_id", new Document("$concat", List.of(
+                        USER_KEY_PREFIX, new Document("$toString", "$_id.user_id"), ":", dayKey)))
+                        .append("user_id", "$_id.user_id")
+                        .append("day", "$_id.day")
+                        .append("total", 1)
+                        .append("count", 1)
+                        .append("rebuild_id", new Document("$literal", rebuildId))),
+                merge());
+
+        List<Document> global = List.of(match,
+                new Document("$group", new Document("_id", new Document("day", day))
+                        .append("total", amount)
+                        .append("count", new Document("$sum", 1))),
+                new Document("$project", new Document("_id", new Document("$concat", List.of(GLOBAL_KEY_PREFIX, dayKey)))
+                        .append("user_id", null)
+                        .append("day", "$_id.day")
+                        .append("total", 1)
+                        .append("count", 1)
+                        .append("rebuild_id", new Document("$literal", rebuildId))),
+                merge());
+
+        String payments = mongoTemplate.getCollectionName(Payment.class);
+        mongoTemplate.getCollection(payments).aggregate(perUser).toCollection();
+        mongoTemplate.getCollection(payments).aggregate(global).toCollection();
+
+        mongoTemplate.remove(new Query(dayRange(fromDay, toDayExclusive).and("rebuildId").ne(rebuildId)),
+                PaymentDailyTotal.class);
+    }
+
+    @Override
+    public Optional<LocalDate> completeFrom() {
+        return Optional.ofNullable(mongoTemplate.findById(PaymentRollupState.ID, PaymentRollupState.class))
+                .map(PaymentRollupState::getCompleteFrom)
+                .map(completeFrom -> LocalDate.ofInstant(completeFrom, ZoneOffset.UTC));
+    }
+
+    // $min keeps an existing marker, so a restart never moves it forward again.
+    @Override
+    public void initCompleteFrom(LocalDate day) {
+        Update update = new Update().min("completeFrom", toDate(day));
+        try {
+            mongoTemplate.upsert(stateQuery(), update, PaymentRollupState.class);
+        } catch (DuplicateKeyException e) {
+            // Another replica created the state concurrently; the retry updates its document.
+            mongoTemplate.upsert(stateQuery(), update, PaymentRollupState.class);
+        }
+    }
+
+    // Rebuilt days only extend the complete range when they reach it without a gap.
+    @Override
+    public void extendCompleteFrom(LocalDate fromDay, LocalDate toDayExclusive) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(PaymentRollupState.ID).and("completeFrom").lte(toDate(toDayExclusive))),
+                new Update().min("completeFrom", toDate(fromDay)),
+                PaymentRollupState.class);
+    }
+
+    @Override
+    public Optional<LocalDate> firstSuccessfulPaymentDay() {
+        Query first = new Query(Criteria.where("status").is(PaymentStatus.SUCCESS))
+                .with(Sort.by("timestamp"))
+                .limit(1);
+        first.fields().include("timestamp");
+        return Optional.ofNullable(mongoTemplate.findOne(first, Payment.class))
+                .map(payment -> LocalDate.ofInstant(payment.getTimestamp(), ZoneOffset.UTC));
+    }
+
+    @Override
+    public boolean tryLock(String owner, Duration leaseDuration) {
+        Instant now = Instant.now();
+        Query free = new Query(Criteria.where("id").is(PaymentRollupState.ID)
+                .orOperator(Criteria.where("leaseUntil").exists(false), Criteria.where("leaseUntil").lte(now)));
+        return mongoTemplate.updateFirst(free,
+                new Update().set("leaseUntil", now.plus(leaseDuration)).set("leaseOwner", owner),
+                PaymentRollupState.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void unlock(String owner) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(PaymentRollupState.ID).and("leaseOwner").is(owner)),
+                new Update().set("leaseUntil", Instant.now()).unset("leaseOwner"),
+                PaymentRollupState.class);
+    }
+
+    private BigDecimal sum(Criteria scope, LocalDate fromDay, LocalDate toDayExclusive) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(scope.andOperator(dayRange(fromDay, toDayExclusive))),
+                Aggregation.group().sum("total").as("total"));
+
+        TotalSum result = mongoTemplate.aggregate(aggregation, PaymentDailyTotal.class, TotalSum.class)
+                .getUniqueMappedResult();
+        return result == null || result.total() == null ? BigDecimal.ZERO : result.total();
+    }
+
+    private Criteria dayRange(LocalDate fromDay, LocalDate toDayExclusive) {
+        return Criteria.where("day").gte(toDate(fromDay)).lt(toDate(toDayExclusive));
+    }
+
+    private Query byId(String id) {
+        return new Query(Criteria.where("id").is(id));
+    }
+
+    private Query stateQuery() {
+        return byId(PaymentRollupState.ID);
+    }
+
+    private Update increment(Long userId, LocalDate day, Decimal128 amount) {
+        return new Update()
+                .setOnInsert("userId", userId)
+                .setOnInsert("day", toDate(day))
+                .inc("total", amount)
+                .inc("count", 1);
+    }
+
+    private Document merge() {
+        return new Document("$merge", new Document("into", mongoTemplate.getCollectionName(PaymentDailyTotal.class))
+                .append("on", "_id")
+                .append("whenMatched", "replace")
+                .append("whenNotMatched", "insert"));
+    }
+
+    private static Date toDate(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
@@ -0,0 +1,216 @@
+package com.riloidx.paymentservice.service;
+
+import com.riloidx.paymentservice.config.PaymentPipelineProperties;
+import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
+import com.riloidx.paymentservice.dto.response.PaymentResponseDto;
+import com.riloidx.paymentservice.entity.PaymentAcceptance;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.exception.PaymentNotFoundException;
+import com.riloidx.paymentservice.exception.PaymentPipelineFullException;
+import com.riloidx.paymentservice.repository.PaymentAcceptanceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Accepted payments are processed on virtual threads. The semaphore bounds how many may be accepted but not yet
+// stored, so a burst is absorbed up to the capacity and rejected beyond it instead of queueing without limit.
+@Slf4j
+@Component
+public class PaymentAcceptancePipeline {
+
+    private final PaymentService paymentService;
+    private final PaymentAcceptanceRepository acceptanceRepo;
+    private final PaymentPipelineProperties properties;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("payment-pipeline-", 0).factory());
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter recovered;
+    private final Timer processing;
+
+    public PaymentAcceptancePipeline(PaymentService paymentService,
+                                     PaymentAcceptanceRepository acceptanceRepo,
+                                     PaymentPipelineProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.acceptanceRepo = acceptanceRepo;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.capacity());
+
+        Gauge.builder("payment.pipeline.depth", this, PaymentAcceptancePipeline::inFlight)
+                .description("Payments accepted but not yet stored")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("payment.pipeline.accepted")
+                .description("Payments accepted for asynchronous processing")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("payment.pipeline.rejected")
+                .description("Payments rejected because the pipeline was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("payment.pipeline.failed")
+                .description("Accepted payments that could not be processed")
+                .register(meterRegistry);
+        this.recovered = Counter.builder("payment.pipeline.recovered")
+                .description("Stale accepted payments submitted again after a crash or shutdown")
+                .register(meterRegistry);
+        this.processing = Timer.builder("payment.pipeline.processing")
+                .description("Time from acceptance until the payment is stored")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public PaymentResponseDto accept(PaymentCreateDto paymentCreateDto) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new PaymentPipelineFullException("Payment pipeline is full, retry later");
+        }
+
+        PaymentAcceptance acceptance = PaymentAcceptance.pending(ObjectId.get().toHexString(), paymentCreateDto);
+        try {
+            acceptanceRepo.insert(acceptance);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        try {
+            executor.execute(() -> process(acceptance, paymentCreateDto));
+        } catch (RejectedExecutionException e) {
+            acceptanceRepo.deleteById(acceptance.getId());
+            permits.release();
+            rejected.increment();
+            throw new PaymentPipelineFullException("Payment pipeline is shutting down, retry later");
+        }
+
+        accepted.increment();
+        log.debug("Accepted payment {} for order ID: {}", acceptance.getId(), paymentCreateDto.orderId());
+        return acceptance.toDto();
+    }
+
+    // The stored payment wins; until it exists the acceptance record tells whether it is pending or failed.
+    public PaymentResponseDto findStatus(String id) {
+        try {
+            return paymentService.findById(id);
+        } catch (PaymentNotFoundException e) {
+            // The acceptance is removed once the payment is stored, so a miss here may mean it was just stored
+            return acceptanceRepo.findById(id)
+                    .map(PaymentAcceptance::toDto)
+                    .orElseGet(() -> paymentService.findById(id));
+        }
+    }
+
+    // Acceptances still PENDING long after they were accepted were lost to a crash or to a shutdown that timed out.
+    // Each one is claimed by a single replica and submitted again, or marked FAILED once it keeps getting lost.
+    @Scheduled(fixedDelayString = "${payment.pipeline.recovery-interval:1m}")
+    public void recoverStale() {
+        Instant staleBefore = Instant.now().minus(properties.staleAfter());
+        try {
+            Optional<PaymentAcceptance> claimed;
+            while (permits.availablePermits() > 0 && (claimed = acceptanceRepo.claimStale(staleBefore)).isPresent()) {
+                if (!recover(claimed.get())) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Stale payment acceptances recovery failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Payment pipeline stopped with {} accepted payments not stored, they are resubmitted once stale",
+                    inFlight());
+        }
+    }
+
+    private int inFlight() {
+        return properties.capacity() - permits.availablePermits();
+    }
+
+    // Returns false when the pipeline has no room left; a claimed acceptance is then picked up again later.
+    private boolean recover(PaymentAcceptance acceptance) {
+        if (isStored(acceptance.getId())) {
+            forget(acceptance);
+            return true;
+        }
+        if (acceptance.getRecoveryAttempts() > properties.maxRecoveryAttempts()) {
+            failed.increment();
+            log.error("Accepted payment {} for order ID: {} was lost {} times, giving up",
+                    acceptance.getId(), acceptance.getOrderId(), acceptance.getRecoveryAttempts());
+            markFailed(acceptance);
+            return true;
+        }
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> process(acceptance, acceptance.toCreateDto()));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return false;
+        }
+        recovered.increment();
+        log.warn("Resubmitted stale accepted payment {} for order ID: {}", acceptance.getId(), acceptance.getOrderId());
+        return true;
+    }
+
+    private boolean isStored(String id) {
+        try {
+            paymentService.findById(id);
+            return true;
+        } catch (PaymentNotFoundException e) {
+            return false;
+        }
+    }
+
+    private void process(PaymentAcceptance acceptance, PaymentCreateDto paymentCreateDto) {
+        Timer.Sample sample = Timer.start();
+        try {
+            paymentService.create(acceptance.getId(), paymentCreateDto);
+            forget(acceptance);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Failed to process accepted payment {} for order ID: {}",
+                    acceptance.getId(), paymentCreateDto.orderId(), e);
+            markFailed(acceptance);
+        } finally {
+            sample.stop(processing);
+            permits.release();
+        }
+    }
+
+    private void forget(PaymentAcceptance acceptance) {
+        try {
+            acceptanceRepo.deleteById(acceptance.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove acceptance of stored payment {}: {}", acceptance.getId(), e.getMessage());
+        }
+    }
+
+    private void markFailed(PaymentAcceptance acceptance) {
+        acceptance.setStatus(PaymentStatus.FAILED);
+        try {
+            acceptanceRepo.save(acceptance);
+        } catch (RuntimeException e) {
+            log.error("Failed to record the failure of accepted payment {}", acceptance.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.riloidx.paymentservice.service;
+
+import com.riloidx.paymentservice.config.PaymentRollupProperties;
+import com.riloidx.paymentservice.dto.response.RollupRebuildResponseDto;
+import com.riloidx.paymentservice.dto.response.TotalSum;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.exception.RollupRebuildInProgressException;
+import com.riloidx.paymentservice.repository.PaymentDailyTotalRepository;
+import com.riloidx.paymentservice.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+public class PaymentRollupService {
+
+    private final PaymentRepository paymentRepo;
+    private final PaymentDailyTotalRepository rollupRepo;
+    private final PaymentRollupProperties properties;
+    private final Counter updateFailures;
+
+    public PaymentRollupService(PaymentRepository paymentRepo,
+                                PaymentDailyTotalRepository rollupRepo,
+                                PaymentRollupProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.paymentRepo = paymentRepo;
+        this.rollupRepo = rollupRepo;
+        this.properties = properties;
+        this.updateFailures = Counter.builder("payment.rollups.update.failures")
+                .description("Successful payments whose daily totals could not be updated")
+                .register(meterRegistry);
+    }
+
+    // Payments stored before this instance started may be missing from today's totals, so on first start the
+    // totals only count from tomorrow. The nightly job rebuilds today and backfills everything before it.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCompleteFrom() {
+        rollupRepo.initCompleteFrom(today().plusDays(1));
+    }
+
+    // The payment is already stored at this point, so a failed update is logged and left to the nightly rebuild.
+    public void record(Payment payment) {
+        if (payment.getStatus() != PaymentStatus.SUCCESS) {
+            return;
+        }
+        try {
+            rollupRepo.add(payment.getUserId(), payment.getTimestamp(), payment.getPaymentAmount());
+        } catch (RuntimeException e) {
+            updateFailures.increment();
+            log.warn("Failed to update daily totals for payment {}", payment.getId(), e);
+        }
+    }
+
+    public TotalSum totalForUser(Long userId, Instant start, Instant end) {
+        return total(start, end,
+                (fromDay, toDay) -> rollupRepo.sumUserDays(userId, fromDay, toDay),
+                (from, to) -> paymentRepo.sumAmountByUserIdAndDateRange(userId, from, to));
+    }
+
+    public TotalSum totalForAllUsers(Instant start, Instant end) {
+        return total(start, end,
+                rollupRepo::sumGlobalDays,
+                paymentRepo::sumAmountForDateRange);
+    }
+
+    public RollupRebuildResponseDto rebuild(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Rebuild range must end after it starts");
+        }
+        if (to.isAfter(today())) {
+            throw new IllegalArgumentException("Only closed days can be rebuilt, range must end by " + today());
+        }
+
+        String owner = UUID.randomUUID().toString();
+        if (!rollupRepo.tryLock(owner, properties.leaseDuration())) {
+            throw new RollupRebuildInProgressException("Daily totals are being rebuilt, retry later");
+        }
+        try {
+            rebuildDays(from, to);
+        } finally {
+            rollupRepo.unlock(owner);
+        }
+        return new RollupRebuildResponseDto(from, to, ChronoUnit.DAYS.between(from, to));
+    }
+
+    // Yesterday is closed by the time this runs, so rebuilding it cannot race with live increments. The lease
+    // keeps replicas from rebuilding at the same time.
+    @Scheduled(cron = "${payment.rollups.rebuild-cron:0 30 0 * * *}", zone = "UTC")
+    public void rebuildPreviousDays() {
+        String owner = UUID.randomUUID().toString();
+        if (!rollupRepo.tryLock(owner, properties.leaseDuration())) {
+            log.debug("Daily totals rebuild is running on another instance");
+            return;
+        }
+        try {
+            LocalDate today = today();
+            rebuildDays(today.minusDays(1), today);
+            backfill(today);
+        } finally {
+            rollupRepo.unlock(owner);
+        }
+    }
+
+    private void backfill(LocalDate today) {
+        LocalDate completeFrom = rollupRepo.completeFrom().orElse(null);
+        if (completeFrom == null || completeFrom.isAfter(today)) {
+            return;
+        }
+        rollupRepo.firstSuccessfulPaymentDay()
+                .filter(firstDay -> firstDay.isBefore(completeFrom))
+                .ifPresent(firstDay -> rebuildDays(firstDay, completeFrom));
+    }
+
+    private void rebuildDays(LocalDate from, LocalDate to) {
+        log.info("Rebuilding daily payment totals from {} until {}", from, to);
+        rollupRepo.rebuild(from, to);
+        rollupRepo.extendCompleteFrom(from, to);
+    }
+
+    // Whole UTC days from the complete range come from the rollups; everything else scans payments.
+    private TotalSum total(Instant start,
+                           Instant end,
+                           BiFunction<LocalDate, LocalDate, BigDecimal> days,
+                           BiFunction<Instant, Instant, TotalSum> payments) {
+        // Timestamps are stored with millisecond precision, so the inclusive end becomes the next millisecond.
+        Instant endExclusive = end.truncatedTo(ChronoUnit.MILLIS).plusMillis(1);
+        LocalDate firstFullDay = LocalDate.ofInstant(start.minusNanos(1), ZoneOffset.UTC).plusDays(1);
+        LocalDate lastDayExclusive = LocalDate.ofInstant(endExclusive, ZoneOffset.UTC);
+
+        LocalDate rollupFrom = firstFullDay;
+        if (firstFullDay.isBefore(lastDayExclusive)) {
+            LocalDate completeFrom = rollupRepo.completeFrom().orElse(lastDayExclusive);
+            rollupFrom = completeFrom.isAfter(firstFullDay) ? completeFrom : firstFullDay;
+        }
+        if (!rollupFrom.isBefore(lastDayExclusive)) {
+            return new TotalSum(amount(payments.apply(start, endExclusive)));
+        }
+
+        BigDecimal total = days.apply(rollupFrom, lastDayExclusive);
+        Instant rollupStart = startOf(rollupFrom);
+        if (start.isBefore(rollupStart)) {
+            total = total.add(amount(payments.apply(start, rollupStart)));
+        }
+        Instant rollupEnd = startOf(lastDayExclusive);
+        if (rollupEnd.isBefore(endExclusive)) {
+            total = total.add(amount(payments.apply(rollupEnd, endExclusive)));
+        }
+        return new TotalSum(total);
+    }
+
+    private static BigDecimal amount(TotalSum sum) {
+        return sum == null || sum.total() == null ? BigDecimal.ZERO : sum.total();
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
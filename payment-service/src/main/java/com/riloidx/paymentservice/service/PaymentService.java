@@ -11,6 +11,10 @@ import java.util.List;
 public interface PaymentService {
     PaymentResponseDto create(PaymentCreateDto paymentCreateDto);
 
+    PaymentResponseDto create(String id, PaymentCreateDto paymentCreateDto);
+
+    PaymentResponseDto findById(String id);
+
     List<PaymentResponseDto> findByUserId(Long userId);
 
     List<PaymentResponseDto> findByOrderId(Long orderId);
@@ -4,16 +4,16 @@ import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
 import com.riloidx.paymentservice.dto.response.PaymentResponseDto;
 import com.riloidx.paymentservice.dto.response.TotalSum;
 import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
 import com.riloidx.paymentservice.entity.PaymentStatus;
-import com.riloidx.paymentservice.exception.ExternalServiceException;
-import com.riloidx.paymentservice.integration.RandomNumberClient;
-import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import com.riloidx.paymentservice.exception.PaymentNotFoundException;
+import com.riloidx.paymentservice.integration.RandomNumberBuffer;
 import com.riloidx.paymentservice.mapper.PaymentMapper;
+import com.riloidx.paymentservice.repository.PaymentOutboxRepository;
 import com.riloidx.paymentservice.repository.PaymentRepository;
-import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -27,27 +27,36 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepo;
     private final PaymentMapper mapper;
-    private final RandomNumberClient randomNumberClient;
-    private final KafkaTemplate<String, PaymentEvent> kafkaTemplate;
+    private final RandomNumberBuffer randomNumbers;
+    private final PaymentOutboxRepository outboxRepo;
+    private final PaymentRollupService rollups;
 
     @Override
     public PaymentResponseDto create(PaymentCreateDto paymentCreateDto) {
+        return create(ObjectId.get().toHexString(), paymentCreateDto);
+    }
+
+    @Override
+    public PaymentResponseDto create(String id, PaymentCreateDto paymentCreateDto) {
         log.info("Creating payment for order ID: {}, user ID: {}", paymentCreateDto.orderId(), paymentCreateDto.userId());
         
-        Payment payment = preparePayment(paymentCreateDto);
-        Payment savedPayment = paymentRepo.save(payment);
+        Payment payment = preparePayment(id, paymentCreateDto);
+        // Outbox first: a crash in between leaves an entry the relay drops as orphaned, never a payment without its event.
+        outboxRepo.insert(PaymentOutboxEvent.of(payment));
+        Payment savedPayment = savePayment(payment);
+        rollups.record(savedPayment);
         log.info("Payment created with ID: {}, status: {}", savedPayment.getId(), savedPayment.getStatus());
 
-        PaymentEvent event = new PaymentEvent(
-                savedPayment.getOrderId(),
-                savedPayment.getStatus().name()
-        );
-        kafkaTemplate.send("payment-events", event);
-        log.debug("Payment event sent to Kafka for order ID: {}", savedPayment.getOrderId());
-
         return mapper.toDto(savedPayment);
     }
 
+    @Override
+    public PaymentResponseDto findById(String id) {
+        return paymentRepo.findById(id)
+                .map(mapper::toDto)
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found with id " + id));
+    }
+
     @Override
     public List<PaymentResponseDto> findByUserId(Long userId) {
         log.debug("Finding payments for user ID: {}", userId);
@@ -75,7 +84,7 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     public TotalSum getTotalSum(Instant start, Instant end, Long userId) {
         log.debug("Calculating total sum for user ID: {} between {} and {}", userId, start, end);
-        TotalSum result = paymentRepo.sumAmountByUserIdAndDateRange(userId, start, end);
+        TotalSum result = rollups.totalForUser(userId, start, end);
         log.debug("Total sum for user ID {}: {}", userId, result);
         return result;
     }
@@ -83,37 +92,36 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     public TotalSum getTotalSumAdmin(Instant start, Instant end) {
         log.debug("Calculating total sum for all users between {} and {}", start, end);
-        TotalSum result = paymentRepo.sumAmountForDateRange(start, end);
+        TotalSum result = rollups.totalForAllUsers(start, end);
         log.debug("Total sum for all users: {}", result);
         return result;
     }
 
-    private Payment preparePayment(PaymentCreateDto paymentCreateDto) {
+    private Payment preparePayment(String id, PaymentCreateDto paymentCreateDto) {
         Payment payment = mapper.toEntity(paymentCreateDto);
 
         payment.setStatus(getPaymentStatus());
+        // The id is assigned up front so the outbox entry can be written before the payment. Auditing treats
+        // entities with an id as existing, so the creation timestamp is set here as well.
+        payment.setId(id);
+        payment.setTimestamp(Instant.now());
 
         return payment;
     }
 
-    private PaymentStatus getPaymentStatus() {
+    private Payment savePayment(Payment payment) {
         try {
-            log.debug("Fetching random number from external service");
-            var response = randomNumberClient.getRandomNumber();
-
-            if (response == null || response.isEmpty()) {
-                log.error("External service returned null or empty response");
-                throw new ExternalServiceException("External service return null");
-            }
-
-            int randomNumber = response.getFirst().random();
-            PaymentStatus status = randomNumber % 2 == 0 ? PaymentStatus.SUCCESS : PaymentStatus.FAILED;
-            log.debug("Payment status determined: {} (random number: {})", status, randomNumber);
-            return status;
-
-        } catch (FeignException e) {
-            log.error("External service communication failed: {}", e.getMessage());
-            throw new ExternalServiceException("External service communication failed: " + e.getMessage());
+            return paymentRepo.insert(payment);
+        } catch (RuntimeException e) {
+            outboxRepo.deleteById(payment.getId());
+            throw e;
         }
     }
+
+    private PaymentStatus getPaymentStatus() {
+        int randomNumber = randomNumbers.next();
+        PaymentStatus status = randomNumber % 2 == 0 ? PaymentStatus.SUCCESS : PaymentStatus.FAILED;
+        log.debug("Payment status determined: {} (random number: {})", status, randomNumber);
+        return status;
+    }
 }
@@ -37,5 +37,7 @@ public abstract class BaseIntegrationTest {
     static void overrideProperties(DynamicPropertyRegistry registry) {
         registry.add("api.random-number-url",
                 () -> "http://localhost:${wiremock.server.port}/csrng/csrng.php?min=1&max=100");
+        registry.add("payment.random-numbers.low-watermark", () -> 2);
+        registry.add("payment.random-numbers.high-watermark", () -> 10);
     }
 }
\ No newline at end of file
@@ -2,28 +2,56 @@ package com.riloidx.paymentservice.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentRollupState;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.repository.PaymentAcceptanceRepository;
+import com.riloidx.paymentservice.repository.PaymentDailyTotalRepository;
+import com.riloidx.paymentservice.repository.PaymentOutboxRepository;
 import com.riloidx.paymentservice.repository.PaymentRepository;
+import com.riloidx.paymentservice.service.PaymentRollupService;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class PaymentIntegrationTest extends BaseIntegrationTest {
 
     @Autowired private PaymentRepository paymentRepository;
+    @Autowired private PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired private PaymentDailyTotalRepository paymentDailyTotalRepository;
+    @Autowired private PaymentAcceptanceRepository paymentAcceptanceRepository;
+    @Autowired private PaymentRollupService paymentRollupService;
+    @Autowired private MongoTemplate mongoTemplate;
+    @Autowired private RandomNumberBuffer randomNumberBuffer;
     @Autowired private ObjectMapper objectMapper;
 
     @AfterEach
     void cleanUp() {
         paymentRepository.deleteAll();
+        paymentOutboxRepository.deleteAll();
+        paymentDailyTotalRepository.deleteAll();
+        paymentAcceptanceRepository.deleteAll();
+        mongoTemplate.dropCollection(PaymentRollupState.class);
+        paymentRollupService.initCompleteFrom();
     }
 
     @Test
@@ -34,6 +62,7 @@ class PaymentIntegrationTest extends BaseIntegrationTest {
                 .willReturn(aResponse()
                         .withHeader("Content-Type", "application/json")
                         .withBody("[{\"random\": 4}]")));
+        refillRandomNumbers();
 
         PaymentCreateDto request = new PaymentCreateDto(1L, 101L, new BigDecimal("150.00"));
 
@@ -47,15 +76,197 @@ class PaymentIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
-    void createPaymentShouldReturn502WhenExternalServiceFails() throws Exception {
+    void acceptPaymentShouldReturnAcceptedAndStorePaymentInBackground() throws Exception {
+        stubFor(get(urlPathEqualTo("/csrng/csrng.php"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"random\": 8}]")));
+        refillRandomNumbers();
+
+        PaymentCreateDto request = new PaymentCreateDto(3L, 101L, BigDecimal.TEN);
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.post("/payments/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status", is("PENDING")))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(body).get("id").asText();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while ((paymentRepository.findById(id).isEmpty() || paymentAcceptanceRepository.existsById(id))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(paymentAcceptanceRepository.existsById(id));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/payments/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("SUCCESS")))
+                .andExpect(jsonPath("$.orderId", is(3)));
+    }
+
+    @Test
+    void getPaymentShouldReturn404ForUnknownId() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/payments/{id}", "000000000000000000000000"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createPaymentShouldBeRelayedFromOutbox() throws Exception {
+        stubFor(get(urlPathEqualTo("/csrng/csrng.php"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"random\": 3}]")));
+
+        PaymentCreateDto request = new PaymentCreateDto(2L, 101L, BigDecimal.TEN);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (paymentOutboxRepository.count() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, paymentOutboxRepository.count());
+        assertEquals(1, paymentRepository.findByOrderId(2L).size());
+    }
+
+    @Test
+    void createPaymentShouldFallBackToLocalDecisionWhenExternalServiceFails() throws Exception {
         stubFor(get(urlPathEqualTo("/csrng/csrng.php"))
                 .willReturn(aResponse().withStatus(500)));
+        refillRandomNumbers();
 
         PaymentCreateDto request = new PaymentCreateDto(1L, 101L, BigDecimal.TEN);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/payments")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadGateway());
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status", anyOf(is("SUCCESS"), is("FAILED"))));
+        assertEquals(0, randomNumberBuffer.depth());
+    }
+
+    @Test
+    void createPaymentShouldBeCountedInDailyTotals() throws Exception {
+        stubFor(get(urlPathEqualTo("/csrng/csrng.php"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"random\": 6}]")));
+        refillRandomNumbers();
+
+        PaymentCreateDto request = new PaymentCreateDto(4L, 102L, new BigDecimal("150.00"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        mockMvc.perform(MockMvcRequestBuilders.get("/payments/total-sum")
+                        .param("start", startOf(today).toString())
+                        .param("end", startOf(today.plusDays(2)).minusMillis(1).toString())
+                        .param("userId", "102"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(150.0)));
+    }
+
+    @Test
+    void rebuiltRollupsShouldMatchPaymentsIncludingPartialEdgeDays() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant threeDaysAgo = startOf(today.minusDays(3));
+        savePayment(103L, threeDaysAgo.plus(Duration.ofHours(2)), "1.50", PaymentStatus.SUCCESS);
+        savePayment(103L, threeDaysAgo.plus(Duration.ofHours(20)), "2.00", PaymentStatus.SUCCESS);
+        savePayment(103L, startOf(today.minusDays(2)).plus(Duration.ofHours(12)), "10.00", PaymentStatus.SUCCESS);
+        savePayment(104L, startOf(today.minusDays(2)).plus(Duration.ofHours(12)), "100.00", PaymentStatus.SUCCESS);
+        savePayment(103L, startOf(today.minusDays(2)).plus(Duration.ofHours(13)), "1000.00", PaymentStatus.FAILED);
+        savePayment(103L, startOf(today.minusDays(1)).plus(Duration.ofHours(1)), "20.00", PaymentStatus.SUCCESS);
+        savePayment(103L, startOf(today.minusDays(1)).plus(Duration.ofHours(23)), "40.00", PaymentStatus.SUCCESS);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/payments/admin/rollups/rebuild")
+                        .param("from", today.minusDays(3).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days", is(3)));
+
+        String start = threeDaysAgo.plus(Duration.ofHours(10)).toString();
+        String end = startOf(today.minusDays(1)).plus(Duration.ofHours(2)).toString();
+
+        // Today is not covered by the rollups yet, so the whole range is still read from payments.
+        assertTotals(start, end, 32.0, 132.0);
+
+        // Once the backfill has reached the range the full days come from the rollups.
+        paymentDailyTotalRepository.extendCompleteFrom(today.minusDays(3), today.plusDays(1));
+        assertEquals(new BigDecimal("10.00"),
+                paymentDailyTotalRepository.sumUserDays(103L, today.minusDays(2), today.minusDays(1)));
+        assertTotals(start, end, 32.0, 132.0);
+    }
+
+    @Test
+    void rebuildRollupsShouldReplaceTotalsAndDropDaysWithoutPayments() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        paymentDailyTotalRepository.add(106L, startOf(today.minusDays(2)).plus(Duration.ofHours(1)), new BigDecimal("99.00"));
+        paymentDailyTotalRepository.add(106L, startOf(today.minusDays(1)).plus(Duration.ofHours(1)), new BigDecimal("99.00"));
+        savePayment(106L, startOf(today.minusDays(1)).plus(Duration.ofHours(1)), "5.00", PaymentStatus.SUCCESS);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/payments/admin/rollups/rebuild")
+                        .param("from", today.minusDays(2).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk());
+
+        assertEquals(BigDecimal.ZERO,
+                paymentDailyTotalRepository.sumUserDays(106L, today.minusDays(2), today.minusDays(1)));
+        assertEquals(new BigDecimal("5.00"),
+                paymentDailyTotalRepository.sumUserDays(106L, today.minusDays(1), today));
+    }
+
+    private void assertTotals(String start, String end, double userTotal, double allUsersTotal) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/payments/total-sum")
+                        .param("start", start)
+                        .param("end", end)
+                        .param("userId", "103"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(userTotal)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/payments/admin/total-sum")
+                        .param("start", start)
+                        .param("end", end))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(allUsersTotal)));
+    }
+
+    @Test
+    void rebuildRollupsShouldRejectOpenDays() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/payments/admin/rollups/rebuild")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void savePayment(Long userId, Instant timestamp, String amount, PaymentStatus status) {
+        Payment payment = new Payment();
+        // A preset id keeps auditing from overwriting the backdated timestamp.
+        payment.setId(ObjectId.get().toHexString());
+        payment.setOrderId(1L);
+        payment.setUserId(userId);
+        payment.setStatus(status);
+        payment.setTimestamp(timestamp);
+        payment.setPaymentAmount(new BigDecimal(amount));
+        paymentRepository.insert(payment);
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private void refillRandomNumbers() {
+        randomNumberBuffer.clear();
+        randomNumberBuffer.refill();
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.riloidx.paymentservice.integration;
+
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.repository.PaymentRepository;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Guards the payments indexes against query shapes drifting away from them. Runs on the Testcontainers
+// Mongo so the plans come from a real query planner.
+class PaymentQueryPlanIntegrationTest extends BaseIntegrationTest {
+
+    private static final String USER_INDEX = "idx_user_id_status_timestamp";
+    private static final String STATUS_INDEX = "idx_status_timestamp";
+
+    @Autowired private MongoTemplate mongoTemplate;
+    @Autowired private PaymentRepository paymentRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Enough unrelated payments that the planner has a clear winner among the candidate indexes.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            payments.add(payment((long) (1000 + i % 20), i % 2 == 0 ? PaymentStatus.SUCCESS : PaymentStatus.FAILED,
+                    now.minus(i, ChronoUnit.MINUTES)));
+        }
+        payments.add(payment(105L, PaymentStatus.SUCCESS, now));
+        paymentRepository.insert(payments);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        paymentRepository.deleteAll();
+    }
+
+    @Test
+    void paymentsByUserShouldBeCoveredByUserIndex() {
+        Document plan = explainFind(new Document("user_id", 105L));
+
+        assertCovered(plan, USER_INDEX);
+    }
+
+    @Test
+    void paymentsByStatusShouldBeCoveredByStatusIndex() {
+        Document plan = explainFind(new Document("status", PaymentStatus.FAILED.name()));
+
+        assertCovered(plan, STATUS_INDEX);
+    }
+
+    @Test
+    void userAmountAggregationShouldUseUserIndexWithoutFetching() {
+        Document plan = explainSum(new Document("user_id", 105L).append("timestamp", lastDay())
+                .append("status", PaymentStatus.SUCCESS.name()));
+
+        assertEquals(List.of(USER_INDEX), indexNames(plan));
+        assertFalse(plan.toJson().contains("FETCH"), plan.toJson());
+    }
+
+    @Test
+    void globalAmountAggregationShouldUseStatusIndexWithoutFetching() {
+        Document plan = explainSum(new Document("timestamp", lastDay())
+                .append("status", PaymentStatus.SUCCESS.name()));
+
+        assertEquals(List.of(STATUS_INDEX), indexNames(plan));
+        assertFalse(plan.toJson().contains("FETCH"), plan.toJson());
+    }
+
+    private Document explainFind(Document filter) {
+        return winningPlan(mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", "payments")
+                .append("filter", filter)
+                .append("projection", Document.parse(PaymentRepository.LIST_FIELDS)))
+                .append("verbosity", "queryPlanner")));
+    }
+
+    // Same shape as the total-sum edge aggregations in PaymentRepository.
+    private Document explainSum(Document match) {
+        List<Document> pipeline = List.of(
+                new Document("$match", match),
+                new Document("$group", new Document("_id", null)
+                        .append("total", new Document("$sum", new Document("$toDecimal", "$payment_amount")))));
+        return winningPlan(mongoTemplate.getDb().runCommand(new Document("explain", new Document("aggregate", "payments")
+                .append("pipeline", pipeline)
+                .append("cursor", new Document()))
+                .append("verbosity", "queryPlanner")));
+    }
+
+    private void assertCovered(Document plan, String index) {
+        String json = plan.toJson();
+        assertEquals(List.of(index), indexNames(plan));
+        assertTrue(json.contains("PROJECTION_COVERED"), json);
+        assertFalse(json.contains("FETCH"), json);
+    }
+
+    private Document lastDay() {
+        Instant now = Instant.now();
+        return new Document("$gte", Date.from(now.minus(1, ChronoUnit.DAYS))).append("$lt", Date.from(now.plusSeconds(60)));
+    }
+
+    // Explain output differs between the classic engine and pushed-down aggregations, so the first
+    // winning plan is searched for wherever it is nested.
+    private static Document winningPlan(Object node) {
+        Document plan = findWinningPlan(node);
+        assertNotNull(plan, "No winning plan in explain output");
+        return plan;
+    }
+
+    private static Document findWinningPlan(Object node) {
+        if (node instanceof Document document) {
+            if (document.get("winningPlan") instanceof Document plan) {
+                return plan;
+            }
+            for (Object value : document.values()) {
+                Document plan = findWinningPlan(value);
+                if (plan != null) {
+                    return plan;
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object value : list) {
+                Document plan = findWinningPlan(value);
+                if (plan != null) {
+                    return plan;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> indexNames(Object node) {
+        List<String> names = new ArrayList<>();
+        collectIndexNames(node, names);
+        return names;
+    }
+
+    private static void collectIndexNames(Object node, List<String> names) {
+        if (node instanceof Document document) {
+            if (document.get("indexName") instanceof String name) {
+                names.add(name);
+            }
+            document.values().forEach(value -> collectIndexNames(value, names));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectIndexNames(value, names));
+        }
+    }
+
+    private static Payment payment(Long userId, PaymentStatus status, Instant timestamp) {
+        Payment payment = new Payment();
+        payment.setId(ObjectId.get().toHexString());
+        payment.setOrderId(userId * 10);
+        payment.setUserId(userId);
+        payment.setStatus(status);
+        payment.setTimestamp(timestamp);
+        payment.setPaymentAmount(BigDecimal.TEN);
+        return payment;
+    }
+}
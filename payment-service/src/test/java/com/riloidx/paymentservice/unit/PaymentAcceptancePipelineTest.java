@@ -0,0 +1,177 @@
+package com.riloidx.paymentservice.unit;
+
+import com.riloidx.paymentservice.config.PaymentPipelineProperties;
+import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
+import com.riloidx.paymentservice.dto.response.PaymentResponseDto;
+import com.riloidx.paymentservice.entity.PaymentAcceptance;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.exception.PaymentNotFoundException;
+import com.riloidx.paymentservice.exception.PaymentPipelineFullException;
+import com.riloidx.paymentservice.repository.PaymentAcceptanceRepository;
+import com.riloidx.paymentservice.service.PaymentAcceptancePipeline;
+import com.riloidx.paymentservice.service.PaymentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentAcceptancePipelineTest {
+
+    private static final PaymentCreateDto REQUEST = new PaymentCreateDto(1L, 2L, BigDecimal.TEN);
+
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private PaymentAcceptanceRepository acceptanceRepo;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentAcceptancePipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new PaymentAcceptancePipeline(paymentService, acceptanceRepo,
+                new PaymentPipelineProperties(1, Duration.ofSeconds(5), Duration.ofMinutes(10), 3), meterRegistry);
+    }
+
+    @Test
+    void acceptShouldRecordPendingPaymentAndProcessItInBackground() {
+        PaymentResponseDto accepted = pipeline.accept(REQUEST);
+
+        assertEquals("PENDING", accepted.status());
+        ArgumentCaptor<PaymentAcceptance> acceptance = ArgumentCaptor.forClass(PaymentAcceptance.class);
+        verify(acceptanceRepo).insert(acceptance.capture());
+        assertEquals(accepted, acceptance.getValue().toDto());
+        verify(paymentService, timeout(5_000)).create(accepted.id(), REQUEST);
+        verify(acceptanceRepo, timeout(5_000)).deleteById(accepted.id());
+    }
+
+    @Test
+    void acceptShouldRejectWhenPipelineIsFull() throws InterruptedException {
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(paymentService).create(anyString(), any(PaymentCreateDto.class));
+
+        PaymentResponseDto accepted = pipeline.accept(REQUEST);
+        assertTrue(processing.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PaymentPipelineFullException.class, () -> pipeline.accept(REQUEST));
+        assertEquals(1.0, meterRegistry.get("payment.pipeline.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("payment.pipeline.depth").gauge().value());
+
+        release.countDown();
+        verify(paymentService, timeout(5_000)).create(accepted.id(), REQUEST);
+    }
+
+    @Test
+    void acceptShouldReleaseCapacityWhenAcceptanceCannotBeRecorded() {
+        when(acceptanceRepo.insert(any(PaymentAcceptance.class))).thenThrow(new IllegalStateException("mongo down"));
+
+        assertThrows(IllegalStateException.class, () -> pipeline.accept(REQUEST));
+
+        assertEquals(0.0, meterRegistry.get("payment.pipeline.depth").gauge().value());
+        verify(paymentService, never()).create(anyString(), any(PaymentCreateDto.class));
+    }
+
+    @Test
+    void processShouldRecordFailedOutcomeWhenPaymentCannotBeCreated() {
+        when(paymentService.create(anyString(), any(PaymentCreateDto.class)))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        PaymentResponseDto accepted = pipeline.accept(REQUEST);
+
+        ArgumentCaptor<PaymentAcceptance> acceptance = ArgumentCaptor.forClass(PaymentAcceptance.class);
+        verify(acceptanceRepo, timeout(5_000)).save(acceptance.capture());
+        assertEquals(accepted.id(), acceptance.getValue().getId());
+        assertEquals(PaymentStatus.FAILED, acceptance.getValue().getStatus());
+    }
+
+    @Test
+    void findStatusShouldFallBackToAcceptanceUntilPaymentIsStored() {
+        PaymentAcceptance acceptance = PaymentAcceptance.pending("accepted", REQUEST);
+        when(paymentService.findById("accepted")).thenThrow(new PaymentNotFoundException("Payment not found with id accepted"));
+        when(acceptanceRepo.findById("accepted")).thenReturn(Optional.of(acceptance));
+
+        assertEquals(acceptance.toDto(), pipeline.findStatus("accepted"));
+    }
+
+    @Test
+    void findStatusShouldThrowWhenNeitherPaymentNorAcceptanceExists() {
+        when(paymentService.findById("unknown")).thenThrow(new PaymentNotFoundException("Payment not found with id unknown"));
+        when(acceptanceRepo.findById("unknown")).thenReturn(Optional.empty());
+
+        assertThrows(PaymentNotFoundException.class, () -> pipeline.findStatus("unknown"));
+    }
+
+    @Test
+    void recoverStaleShouldResubmitAcceptanceLostBeforeItWasStored() {
+        PaymentAcceptance lost = lost("lost", 1);
+        when(acceptanceRepo.claimStale(any(Instant.class))).thenReturn(Optional.of(lost), Optional.empty());
+        when(paymentService.findById("lost")).thenThrow(new PaymentNotFoundException("Payment not found with id lost"));
+
+        pipeline.recoverStale();
+
+        verify(paymentService, timeout(5_000)).create("lost", REQUEST);
+        verify(acceptanceRepo, timeout(5_000)).deleteById("lost");
+        assertEquals(1.0, meterRegistry.get("payment.pipeline.recovered").counter().count());
+    }
+
+    @Test
+    void recoverStaleShouldFailAcceptanceThatKeepsGettingLost() {
+        when(acceptanceRepo.claimStale(any(Instant.class))).thenReturn(Optional.of(lost("lost", 4)), Optional.empty());
+        when(paymentService.findById("lost")).thenThrow(new PaymentNotFoundException("Payment not found with id lost"));
+
+        pipeline.recoverStale();
+
+        ArgumentCaptor<PaymentAcceptance> acceptance = ArgumentCaptor.forClass(PaymentAcceptance.class);
+        verify(acceptanceRepo).save(acceptance.capture());
+        assertEquals(PaymentStatus.FAILED, acceptance.getValue().getStatus());
+        verify(paymentService, never()).create(anyString(), any(PaymentCreateDto.class));
+    }
+
+    @Test
+    void recoverStaleShouldDropAcceptanceOfAlreadyStoredPayment() {
+        when(acceptanceRepo.claimStale(any(Instant.class))).thenReturn(Optional.of(lost("stored", 1)), Optional.empty());
+        when(paymentService.findById("stored")).thenReturn(
+                new PaymentResponseDto("stored", 1L, 2L, "SUCCESS", Instant.now(), BigDecimal.TEN));
+
+        pipeline.recoverStale();
+
+        verify(acceptanceRepo).deleteById("stored");
+        verify(paymentService, never()).create(anyString(), any(PaymentCreateDto.class));
+    }
+
+    private PaymentAcceptance lost(String id, int recoveryAttempts) {
+        PaymentAcceptance acceptance = PaymentAcceptance.pending(id, REQUEST);
+        acceptance.setAcceptedAt(Instant.now().minus(Duration.ofHours(1)));
+        acceptance.setLastAttemptAt(Instant.now());
+        acceptance.setRecoveryAttempts(recoveryAttempts);
+        return acceptance;
+    }
+}
@@ -0,0 +1,83 @@
+package com.riloidx.paymentservice.unit;
+
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import com.riloidx.paymentservice.kafka.serialization.PaymentEventCodec;
+import com.riloidx.paymentservice.kafka.serialization.PaymentEventSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaymentEventSerializerTest {
+
+    private final PaymentEvent event = new PaymentEvent("6750c1f2a9b3c45d8e7f0123", 100L, "SUCCESS");
+
+    @Test
+    void serializeShouldWriteBinaryPayloadAndFormatHeader() {
+        PaymentEventSerializer serializer = new PaymentEventSerializer();
+        serializer.configure(Map.of(PaymentEventSerializer.FORMAT_CONFIG, "binary"), false);
+        Headers headers = new RecordHeaders();
+
+        byte[] payload = serializer.serialize("payment-events", headers, event);
+
+        assertEquals(PaymentEventCodec.BINARY_FORMAT,
+                new String(headers.lastHeader(PaymentEventCodec.FORMAT_HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(event, PaymentEventCodec.decode(payload));
+        assertTrue(payload.length < 35);
+    }
+
+    @Test
+    void serializeShouldWriteJsonByDefault() {
+        PaymentEventSerializer serializer = new PaymentEventSerializer();
+        serializer.configure(Map.of(), false);
+        Headers headers = new RecordHeaders();
+
+        byte[] payload = serializer.serialize("payment-events", headers, event);
+
+        assertNull(headers.lastHeader(PaymentEventCodec.FORMAT_HEADER));
+        assertTrue(new String(payload, StandardCharsets.UTF_8).contains("\"orderId\":100"));
+    }
+
+    @Test
+    void codecShouldRoundTripMissingFieldsAndUnknownStatuses() {
+        PaymentEvent sparse = new PaymentEvent(null, -5L, "REFUNDED");
+
+        assertEquals(sparse, PaymentEventCodec.decode(PaymentEventCodec.encode(sparse)));
+        assertEquals(new PaymentEvent(null, null, null),
+                PaymentEventCodec.decode(PaymentEventCodec.encode(new PaymentEvent(null, null, null))));
+    }
+
+    @Test
+    void codecShouldMatchSharedGoldenEncodings() throws IOException {
+        // Shared with the other service so both codec copies are held to the same bytes.
+        List<String> cases = Files.readAllLines(Path.of("..", "contracts", "payment-events", "binary-v1.txt")).stream()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .toList();
+
+        for (String line : cases) {
+            String[] parts = line.split("\\|");
+            PaymentEvent expected = new PaymentEvent(field(parts[0]),
+                    field(parts[1]) == null ? null : Long.valueOf(parts[1]), field(parts[2]));
+            byte[] bytes = HexFormat.of().parseHex(parts[3]);
+
+            assertEquals(parts[3], HexFormat.of().formatHex(PaymentEventCodec.encode(expected)), line);
+            assertEquals(expected, PaymentEventCodec.decode(bytes), line);
+        }
+        assertTrue(cases.size() >= 4);
+    }
+
+    private static String field(String value) {
+        return "-".equals(value) ? null : value;
+    }
+}
@@ -0,0 +1,147 @@
+package com.riloidx.paymentservice.unit;
+
+import com.riloidx.paymentservice.config.OutboxProperties;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.kafka.event.PaymentEvent;
+import com.riloidx.paymentservice.kafka.outbox.PaymentOutboxRelay;
+import com.riloidx.paymentservice.repository.PaymentOutboxRepository;
+import com.riloidx.paymentservice.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxRelayTest {
+
+    @Mock
+    private PaymentOutboxRepository outboxRepo;
+    @Mock
+    private PaymentRepository paymentRepo;
+    @Mock
+    private KafkaTemplate<String, PaymentEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new PaymentOutboxRelay(outboxRepo, paymentRepo, kafkaTemplate,
+                new OutboxProperties(2, Duration.ofMillis(100), Duration.ofSeconds(30), Duration.ofMinutes(5)),
+                meterRegistry);
+    }
+
+    @Test
+    void relayBatchShouldPublishSavedPaymentsAndDeleteThem() {
+        PaymentOutboxEvent first = outboxEvent("p-1", 1L, Instant.now());
+        PaymentOutboxEvent second = outboxEvent("p-2", 2L, Instant.now());
+        when(outboxRepo.claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30)))).thenReturn(List.of(first, second));
+        when(paymentRepo.findByIdIn(List.of("p-1", "p-2"))).thenReturn(List.of(payment("p-1"), payment("p-2")));
+        doReturn(CompletableFuture.completedFuture(null)).when(kafkaTemplate).send(eq("payment-events"), anyString(), any());
+
+        int claimed = relay.relayBatch();
+
+        assertEquals(2, claimed);
+        verify(kafkaTemplate).send("payment-events", "1", new PaymentEvent("p-1", 1L, "SUCCESS"));
+        verify(kafkaTemplate).send("payment-events", "2", new PaymentEvent("p-2", 2L, "SUCCESS"));
+        verify(outboxRepo).deleteClaimed(eq(List.of("p-1", "p-2")), anyString());
+        assertEquals(2, meterRegistry.get("payment.outbox.publish.lag").timer().count());
+    }
+
+    @Test
+    void relayBatchShouldKeepLeaseOfEventsThatFailedToPublish() {
+        PaymentOutboxEvent first = outboxEvent("p-1", 1L, Instant.now());
+        PaymentOutboxEvent second = outboxEvent("p-2", 2L, Instant.now());
+        when(outboxRepo.claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30)))).thenReturn(List.of(first, second));
+        when(paymentRepo.findByIdIn(List.of("p-1", "p-2"))).thenReturn(List.of(payment("p-1"), payment("p-2")));
+        doReturn(CompletableFuture.completedFuture(null))
+                .when(kafkaTemplate).send("payment-events", "1", first.toEvent());
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .when(kafkaTemplate).send("payment-events", "2", second.toEvent());
+
+        relay.relayBatch();
+
+        verify(outboxRepo).deleteClaimed(eq(List.of("p-1")), anyString());
+        verify(outboxRepo).releaseClaimed(eq(List.of()), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void relayBatchShouldReleaseFreshEntriesAndDropOrphans() {
+        PaymentOutboxEvent fresh = outboxEvent("p-1", 1L, Instant.now());
+        PaymentOutboxEvent orphan = outboxEvent("p-2", 2L, Instant.now().minus(Duration.ofMinutes(10)));
+        when(outboxRepo.claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30)))).thenReturn(List.of(fresh, orphan));
+        when(paymentRepo.findByIdIn(List.of("p-1", "p-2"))).thenReturn(List.of());
+
+        relay.relayBatch();
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        verify(outboxRepo).deleteClaimed(eq(List.of("p-2")), anyString());
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepo).releaseClaimed(eq(List.of("p-1")), anyString(), retryAt.capture());
+        assertTrue(retryAt.getValue().isAfter(Instant.now()));
+        assertEquals(1.0, meterRegistry.get("payment.outbox.orphans").counter().count());
+    }
+
+    @Test
+    void relayShouldDrainWhileBatchesAreFull() {
+        when(outboxRepo.claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30))))
+                .thenReturn(List.of(outboxEvent("p-1", 1L, Instant.now()), outboxEvent("p-2", 2L, Instant.now())))
+                .thenReturn(List.of());
+        when(paymentRepo.findByIdIn(anyCollection())).thenReturn(List.of(payment("p-1"), payment("p-2")));
+        doReturn(CompletableFuture.completedFuture(null)).when(kafkaTemplate).send(eq("payment-events"), anyString(), any());
+
+        relay.relay();
+
+        verify(outboxRepo, times(2)).claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void relayShouldStopWhenFullBatchIsStillWaitingForPayments() {
+        when(outboxRepo.claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30))))
+                .thenReturn(List.of(outboxEvent("p-1", 1L, Instant.now()), outboxEvent("p-2", 2L, Instant.now())));
+        when(paymentRepo.findByIdIn(anyCollection())).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(outboxRepo, times(1)).claimBatch(anyString(), eq(2), eq(Duration.ofSeconds(30)));
+        verify(outboxRepo).releaseClaimed(eq(List.of("p-1", "p-2")), anyString(), any(Instant.class));
+    }
+
+    private PaymentOutboxEvent outboxEvent(String id, long orderId, Instant createdAt) {
+        Payment payment = payment(id);
+        payment.setOrderId(orderId);
+        payment.setTimestamp(createdAt);
+        return PaymentOutboxEvent.of(payment);
+    }
+
+    private Payment payment(String id) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setStatus(PaymentStatus.SUCCESS);
+        return payment;
+    }
+}
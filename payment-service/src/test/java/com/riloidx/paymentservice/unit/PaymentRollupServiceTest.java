@@ -0,0 +1,222 @@
+package com.riloidx.paymentservice.unit;
+
+import com.riloidx.paymentservice.config.PaymentRollupProperties;
+import com.riloidx.paymentservice.dto.response.TotalSum;
+import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentStatus;
+import com.riloidx.paymentservice.exception.RollupRebuildInProgressException;
+import com.riloidx.paymentservice.repository.PaymentDailyTotalRepository;
+import com.riloidx.paymentservice.repository.PaymentRepository;
+import com.riloidx.paymentservice.service.PaymentRollupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentRollupServiceTest {
+
+    private static final Duration LEASE = Duration.ofHours(1);
+
+    @Mock
+    private PaymentRepository paymentRepo;
+    @Mock
+    private PaymentDailyTotalRepository rollupRepo;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentRollupService rollups;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rollups = new PaymentRollupService(paymentRepo, rollupRepo,
+                new PaymentRollupProperties("0 30 0 * * *", LEASE), meterRegistry);
+    }
+
+    @Test
+    void totalForUserShouldAddFullDaysFromRollupsAndEdgeDaysFromPayments() {
+        Instant start = Instant.parse("2026-01-01T10:00:00Z");
+        Instant end = Instant.parse("2026-01-04T05:30:00Z");
+        when(rollupRepo.completeFrom()).thenReturn(Optional.of(LocalDate.of(2025, 12, 1)));
+        when(rollupRepo.sumUserDays(1L, LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 4)))
+                .thenReturn(new BigDecimal("100"));
+        when(paymentRepo.sumAmountByUserIdAndDateRange(1L, start, Instant.parse("2026-01-02T00:00:00Z")))
+                .thenReturn(new TotalSum(new BigDecimal("10")));
+        when(paymentRepo.sumAmountByUserIdAndDateRange(1L, Instant.parse("2026-01-04T00:00:00Z"),
+                Instant.parse("2026-01-04T05:30:00.001Z")))
+                .thenReturn(null);
+
+        TotalSum total = rollups.totalForUser(1L, start, end);
+
+        assertEquals(new BigDecimal("110"), total.total());
+    }
+
+    @Test
+    void totalForAllUsersShouldSkipEdgeQueriesWhenRangeIsDayAligned() {
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        Instant end = Instant.parse("2026-01-02T23:59:59.999Z");
+        when(rollupRepo.completeFrom()).thenReturn(Optional.of(LocalDate.of(2026, 1, 1)));
+        when(rollupRepo.sumGlobalDays(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3)))
+                .thenReturn(new BigDecimal("42"));
+
+        TotalSum total = rollups.totalForAllUsers(start, end);
+
+        assertEquals(new BigDecimal("42"), total.total());
+        verify(paymentRepo, never()).sumAmountForDateRange(any(), any());
+    }
+
+    @Test
+    void totalForAllUsersShouldScanPaymentsWhenRangeHasNoFullDay() {
+        Instant start = Instant.parse("2026-01-01T10:00:00Z");
+        Instant end = Instant.parse("2026-01-02T09:00:00Z");
+        when(paymentRepo.sumAmountForDateRange(start, Instant.parse("2026-01-02T09:00:00.001Z")))
+                .thenReturn(new TotalSum(new BigDecimal("7")));
+
+        TotalSum total = rollups.totalForAllUsers(start, end);
+
+        assertEquals(new BigDecimal("7"), total.total());
+        verifyNoInteractions(rollupRepo);
+    }
+
+    @Test
+    void totalForUserShouldScanDaysBeforeRollupsAreComplete() {
+        Instant start = Instant.parse("2026-01-01T10:00:00Z");
+        Instant end = Instant.parse("2026-01-04T05:30:00Z");
+        when(rollupRepo.completeFrom()).thenReturn(Optional.of(LocalDate.of(2026, 1, 3)));
+        when(rollupRepo.sumUserDays(1L, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 4)))
+                .thenReturn(new BigDecimal("100"));
+        when(paymentRepo.sumAmountByUserIdAndDateRange(1L, start, Instant.parse("2026-01-03T00:00:00Z")))
+                .thenReturn(new TotalSum(new BigDecimal("30")));
+        when(paymentRepo.sumAmountByUserIdAndDateRange(1L, Instant.parse("2026-01-04T00:00:00Z"),
+                Instant.parse("2026-01-04T05:30:00.001Z")))
+                .thenReturn(new TotalSum(new BigDecimal("5")));
+
+        TotalSum total = rollups.totalForUser(1L, start, end);
+
+        assertEquals(new BigDecimal("135"), total.total());
+    }
+
+    @Test
+    void totalForAllUsersShouldScanPaymentsWhenRollupsHaveNoCompleteDays() {
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        Instant end = Instant.parse("2026-01-05T00:00:00Z");
+        when(rollupRepo.completeFrom()).thenReturn(Optional.empty());
+        when(paymentRepo.sumAmountForDateRange(start, Instant.parse("2026-01-05T00:00:00.001Z")))
+                .thenReturn(new TotalSum(new BigDecimal("12")));
+
+        TotalSum total = rollups.totalForAllUsers(start, end);
+
+        assertEquals(new BigDecimal("12"), total.total());
+        verify(rollupRepo, never()).sumGlobalDays(any(), any());
+    }
+
+    @Test
+    void recordShouldOnlyCountSuccessfulPayments() {
+        Payment failed = payment(PaymentStatus.FAILED);
+
+        rollups.record(failed);
+
+        verifyNoInteractions(rollupRepo);
+    }
+
+    @Test
+    void recordShouldCountUpdateFailuresWithoutThrowing() {
+        Payment payment = payment(PaymentStatus.SUCCESS);
+        doThrow(new IllegalStateException("mongo down"))
+                .when(rollupRepo).add(payment.getUserId(), payment.getTimestamp(), payment.getPaymentAmount());
+
+        rollups.record(payment);
+
+        assertEquals(1.0, meterRegistry.get("payment.rollups.update.failures").counter().count());
+    }
+
+    @Test
+    void rebuildShouldRejectRangesThatIncludeToday() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        assertThrows(IllegalArgumentException.class, () -> rollups.rebuild(today, today.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> rollups.rebuild(today, today));
+        verifyNoInteractions(rollupRepo);
+    }
+
+    @Test
+    void rebuildShouldRejectWhenAnotherRebuildHoldsTheLease() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(rollupRepo.tryLock(anyString(), eq(LEASE))).thenReturn(false);
+
+        assertThrows(RollupRebuildInProgressException.class, () -> rollups.rebuild(today.minusDays(1), today));
+        verify(rollupRepo, never()).rebuild(any(), any());
+    }
+
+    @Test
+    void rebuildPreviousDaysShouldSkipWhenAnotherInstanceHoldsTheLease() {
+        when(rollupRepo.tryLock(anyString(), eq(LEASE))).thenReturn(false);
+
+        rollups.rebuildPreviousDays();
+
+        verify(rollupRepo, never()).rebuild(any(), any());
+        verify(rollupRepo, never()).unlock(anyString());
+    }
+
+    @Test
+    void rebuildPreviousDaysShouldBackfillDaysBeforeRollupsAreComplete() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(rollupRepo.tryLock(anyString(), eq(LEASE))).thenReturn(true);
+        when(rollupRepo.completeFrom()).thenReturn(Optional.of(today.minusDays(1)));
+        when(rollupRepo.firstSuccessfulPaymentDay()).thenReturn(Optional.of(today.minusDays(30)));
+
+        rollups.rebuildPreviousDays();
+
+        InOrder order = inOrder(rollupRepo);
+        order.verify(rollupRepo).rebuild(today.minusDays(1), today);
+        order.verify(rollupRepo).extendCompleteFrom(today.minusDays(1), today);
+        order.verify(rollupRepo).rebuild(today.minusDays(30), today.minusDays(1));
+        order.verify(rollupRepo).extendCompleteFrom(today.minusDays(30), today.minusDays(1));
+        order.verify(rollupRepo).unlock(anyString());
+    }
+
+    @Test
+    void rebuildPreviousDaysShouldNotBackfillWhileTodayIsStillIncomplete() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(rollupRepo.tryLock(anyString(), eq(LEASE))).thenReturn(true);
+        when(rollupRepo.completeFrom()).thenReturn(Optional.of(today.plusDays(1)));
+
+        rollups.rebuildPreviousDays();
+
+        verify(rollupRepo).rebuild(today.minusDays(1), today);
+        verify(rollupRepo, never()).firstSuccessfulPaymentDay();
+        verify(rollupRepo).unlock(anyString());
+    }
+
+    private Payment payment(PaymentStatus status) {
+        Payment payment = new Payment();
+        payment.setId("p-1");
+        payment.setUserId(1L);
+        payment.setStatus(status);
+        payment.setTimestamp(Instant.parse("2026-01-01T10:00:00Z"));
+        payment.setPaymentAmount(BigDecimal.TEN);
+        return payment;
+    }
+}
@@ -2,23 +2,26 @@ package com.riloidx.paymentservice.unit;
 
 import com.riloidx.paymentservice.dto.request.PaymentCreateDto;
 import com.riloidx.paymentservice.entity.Payment;
+import com.riloidx.paymentservice.entity.PaymentOutboxEvent;
 import com.riloidx.paymentservice.entity.PaymentStatus;
-import com.riloidx.paymentservice.exception.ExternalServiceException;
-import com.riloidx.paymentservice.integration.RandomNumberClient;
-import com.riloidx.paymentservice.integration.RandomNumberResponseDto;
+import com.riloidx.paymentservice.exception.PaymentNotFoundException;
+import com.riloidx.paymentservice.integration.RandomNumberBuffer;
 import com.riloidx.paymentservice.kafka.event.PaymentEvent;
 import com.riloidx.paymentservice.mapper.PaymentMapper;
+import com.riloidx.paymentservice.repository.PaymentOutboxRepository;
 import com.riloidx.paymentservice.repository.PaymentRepository;
+import com.riloidx.paymentservice.service.PaymentRollupService;
 import com.riloidx.paymentservice.service.PaymentServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -33,9 +36,11 @@ class PaymentServiceImplTest {
     @Mock
     private PaymentMapper mapper;
     @Mock
-    private RandomNumberClient randomNumberClient;
+    private RandomNumberBuffer randomNumbers;
     @Mock
-    private KafkaTemplate<String, PaymentEvent> kafkaTemplate;
+    private PaymentOutboxRepository outboxRepo;
+    @Mock
+    private PaymentRollupService rollups;
 
     @InjectMocks
     private PaymentServiceImpl paymentService;
@@ -49,16 +54,36 @@ class PaymentServiceImplTest {
         Payment payment = new Payment();
         payment.setOrderId(100L);
 
-        RandomNumberResponseDto mockDto = new RandomNumberResponseDto("success", 1, 10, 2);
-        when(randomNumberClient.getRandomNumber()).thenReturn(List.of(mockDto));
+        when(randomNumbers.next()).thenReturn(2);
 
         when(mapper.toEntity(dto)).thenReturn(payment);
-        when(paymentRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(paymentRepo.insert(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
 
         paymentService.create(dto);
 
         assertEquals(PaymentStatus.SUCCESS, payment.getStatus());
-        verify(kafkaTemplate).send(eq("payment-events"), any(PaymentEvent.class));
+        ArgumentCaptor<PaymentOutboxEvent> outboxEvent = ArgumentCaptor.forClass(PaymentOutboxEvent.class);
+        InOrder inOrder = inOrder(outboxRepo, paymentRepo, rollups);
+        inOrder.verify(outboxRepo).insert(outboxEvent.capture());
+        inOrder.verify(paymentRepo).insert(payment);
+        inOrder.verify(rollups).record(payment);
+        assertEquals(new PaymentEvent(payment.getId(), 100L, "SUCCESS"), outboxEvent.getValue().toEvent());
+        assertEquals(payment.getTimestamp(), outboxEvent.getValue().getCreatedAt());
+    }
+
+    @Test
+    void createShouldRemoveOutboxEntryWhenPaymentInsertFails() {
+        PaymentCreateDto dto = new PaymentCreateDto(1L, 100L, BigDecimal.TEN);
+        Payment payment = new Payment();
+
+        when(randomNumbers.next()).thenReturn(2);
+        when(mapper.toEntity(dto)).thenReturn(payment);
+        when(paymentRepo.insert(any(Payment.class))).thenThrow(new IllegalStateException("mongo down"));
+
+        assertThrows(IllegalStateException.class, () -> paymentService.create(dto));
+
+        verify(outboxRepo).deleteById(payment.getId());
+        verifyNoInteractions(rollups);
     }
 
     @Test
@@ -66,11 +91,10 @@ class PaymentServiceImplTest {
         PaymentCreateDto dto = new PaymentCreateDto(1L, 100L, BigDecimal.TEN);
         Payment payment = new Payment();
 
-        RandomNumberResponseDto mockDto = new RandomNumberResponseDto("success", 1, 10, 3);
-        when(randomNumberClient.getRandomNumber()).thenReturn(List.of(mockDto));
+        when(randomNumbers.next()).thenReturn(3);
 
         when(mapper.toEntity(dto)).thenReturn(payment);
-        when(paymentRepo.save(any())).thenReturn(payment);
+        when(paymentRepo.insert(any(Payment.class))).thenReturn(payment);
 
         paymentService.create(dto);
 
@@ -78,10 +102,9 @@ class PaymentServiceImplTest {
     }
 
     @Test
-    void createShouldThrowExternalServiceExceptionWhenClientReturnsNull() {
-        when(randomNumberClient.getRandomNumber()).thenReturn(null);
+    void findByIdShouldThrowWhenPaymentDoesNotExist() {
+        when(paymentRepo.findById("missing")).thenReturn(Optional.empty());
 
-        assertThrows(ExternalServiceException.class,
-                () -> paymentService.create(new PaymentCreateDto(1L, 1L, BigDecimal.ONE)));
+        assertThrows(PaymentNotFoundException.class, () -> paymentService.findById("missing"));
     }
 }
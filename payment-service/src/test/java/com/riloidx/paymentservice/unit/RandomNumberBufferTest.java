@@ -0,0 +1,118 @@
+package com.riloidx.paymentservice.unit;
+
+import com.riloidx.paymentservice.config.RandomNumberProperties;
+import com.riloidx.paymentservice.integration.RandomNumberBuffer;
+import com.riloidx.paymentservice.integration.RandomNumberClient;
+import com.riloidx.paymentservice.integration.RandomNumberResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RandomNumberBufferTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private RandomNumberBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void refillShouldFillUpToHighWatermarkInBatches() {
+        buffer = buffer(() -> List.of(number(calls.incrementAndGet())), 0, 5);
+
+        buffer.refill();
+
+        assertEquals(5, buffer.depth());
+        assertEquals(5, calls.get());
+        assertEquals(3, meterRegistry.get("payment.random.refill.latency").timer().count());
+        assertEquals(5.0, meterRegistry.get("payment.random.buffer.depth").gauge().value());
+    }
+
+    @Test
+    void nextShouldHandOutBufferedNumbersInOrder() {
+        buffer = buffer(() -> List.of(number(calls.incrementAndGet())), 0, 5);
+        buffer.refill();
+
+        assertEquals(1, buffer.next());
+        assertEquals(2, buffer.next());
+        assertEquals(3, buffer.depth());
+    }
+
+    @Test
+    void refillShouldKeepFetchedNumbersWhenUpstreamFails() {
+        buffer = buffer(() -> {
+            if (calls.incrementAndGet() > 2) {
+                throw new IllegalStateException("upstream down");
+            }
+            return List.of(number(calls.get()));
+        }, 0, 5);
+
+        buffer.refill();
+
+        assertEquals(2, buffer.depth());
+        assertEquals(1.0, meterRegistry.get("payment.random.refill.failures").counter().count());
+    }
+
+    @Test
+    void nextShouldUseLocalSourceWhenBufferIsEmpty() {
+        buffer = buffer(() -> null, 0, 5);
+
+        assertEquals(42, buffer.next());
+        assertEquals(1.0, meterRegistry.get("payment.random.fallbacks").counter().count());
+    }
+
+    @Test
+    void refillShouldTreatErrorResponseAsFailure() {
+        buffer = buffer(() -> List.of(new RandomNumberResponseDto("error", 0, 0, 0)), 0, 5);
+
+        buffer.refill();
+
+        assertEquals(0, buffer.depth());
+        assertEquals(1.0, meterRegistry.get("payment.random.refill.failures").counter().count());
+    }
+
+    @Test
+    void refillShouldStopAfterMaxCallsPerRun() {
+        buffer = new RandomNumberBuffer(() -> List.of(number(calls.incrementAndGet())), () -> 42,
+                new RandomNumberProperties(0, 10, 2, 3, Duration.ofSeconds(1), Duration.ofMinutes(1)), meterRegistry);
+
+        buffer.refill();
+
+        assertEquals(3, buffer.depth());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void triggerRefillShouldBackOffAfterUpstreamFailure() {
+        buffer = buffer(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        }, 2, 5);
+
+        buffer.refill();
+
+        assertFalse(buffer.triggerRefill());
+        assertEquals(42, buffer.next());
+        assertEquals(1, calls.get());
+    }
+
+    private RandomNumberBuffer buffer(RandomNumberClient client, int lowWatermark, int highWatermark) {
+        return new RandomNumberBuffer(client, () -> 42,
+                new RandomNumberProperties(lowWatermark, highWatermark, 2, 100, Duration.ofSeconds(1),
+                        Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    private RandomNumberResponseDto number(int random) {
+        return new RandomNumberResponseDto("success", 1, 100, random);
+    }
+}
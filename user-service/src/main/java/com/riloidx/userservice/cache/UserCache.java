@@ -0,0 +1,69 @@
+package com.riloidx.userservice.cache;
+
+import com.riloidx.userservice.config.CacheProperties;
+import com.riloidx.userservice.dto.response.UserResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    private static final String CACHE_NAME = "user";
+    private static final String KEY_PREFIX = CACHE_NAME + "::";
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final CacheProperties cacheProperties;
+
+    public Map<Long, UserResponseDto> getAll(Collection<Long> ids) {
+        List<Long> orderedIds = List.copyOf(ids);
+        List<Object> values = cacheRedisTemplate.opsForValue().multiGet(orderedIds.stream().map(this::key).toList());
+
+        Map<Long, UserResponseDto> hits = new HashMap<>();
+        if (values == null) {
+            return hits;
+        }
+        for (int i = 0; i < orderedIds.size(); i++) {
+            if (values.get(i) instanceof UserResponseDto dto) {
+                hits.put(orderedIds.get(i), dto);
+            }
+        }
+        log.debug("User cache multi-get: {} hits out of {}", hits.size(), orderedIds.size());
+
+        return hits;
+    }
+
+    public void putAll(Collection<UserResponseDto> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Duration ttl = cacheProperties.getTtl().get(CACHE_NAME);
+
+        cacheRedisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (UserResponseDto user : users) {
+                    operations.opsForValue().set(key(user.getId()), user, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    private String key(long id) {
+        return KEY_PREFIX + id;
+    }
+}
@@ -10,8 +10,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -23,7 +25,7 @@ public class RedisConfig {
     private final CacheProperties cacheProperties;
 
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public GenericJackson2JsonRedisSerializer cacheValueSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
@@ -32,13 +34,16 @@ public class RedisConfig {
                 JsonTypeInfo.As.PROPERTY
         );
 
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               GenericJackson2JsonRedisSerializer cacheValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(5))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.
-                        fromSerializer(serializer));
+                        fromSerializer(cacheValueSerializer));
 
         Map<String, RedisCacheConfiguration> ttlConfiguration = new HashMap<>();
 
@@ -52,4 +57,15 @@ public class RedisConfig {
                 .withInitialCacheConfigurations(ttlConfiguration)
                 .build();
     }
+
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                            GenericJackson2JsonRedisSerializer cacheValueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(cacheValueSerializer);
+
+        return template;
+    }
 }
@@ -1,5 +1,6 @@
 package com.riloidx.userservice.controller;
 
+import com.riloidx.userservice.dto.request.UserBatchRequestDto;
 import com.riloidx.userservice.dto.request.UserCreateDto;
 import com.riloidx.userservice.dto.request.UserUpdateDto;
 import com.riloidx.userservice.dto.response.UserResponseDto;
@@ -14,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -50,6 +52,14 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(dto);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<UserResponseDto>> getByIds(@RequestBody @Valid UserBatchRequestDto dto) {
+        List<UserResponseDto> users = userService.findDtosByIds(dto.getIds());
+
+        return ResponseEntity.status(HttpStatus.OK).body(users);
+    }
+
     @PostMapping
     public ResponseEntity<UserResponseDto> create(@RequestBody @Valid UserCreateDto dto) {
         UserResponseDto created = userService.create(dto);
@@ -0,0 +1,22 @@
+package com.riloidx.userservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequestDto {
+
+    @NotEmpty(message = "Ids list must not be empty")
+    @Size(max = 1000, message = "Ids list must not exceed 1000 elements")
+    private List<@NotNull(message = "Id must not be null") Long> ids;
+}
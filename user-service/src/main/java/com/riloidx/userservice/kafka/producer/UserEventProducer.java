@@ -0,0 +1,25 @@
+package com.riloidx.userservice.kafka.producer;
+
+import com.riloidx.userservice.kafka.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventProducer {
+
+    public static final String TOPIC = "user-events";
+
+    private final KafkaTemplate<String, UserChangedEvent> kafkaTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUserChanged(UserChangedEvent event) {
+        kafkaTemplate.send(TOPIC, String.valueOf(event.userId()), event);
+        log.debug("User {} event sent to Kafka for user ID: {}", event.type(), event.userId());
+    }
+}
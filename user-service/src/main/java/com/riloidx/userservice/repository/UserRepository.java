@@ -1,11 +1,17 @@
 package com.riloidx.userservice.repository;
 
 import com.riloidx.userservice.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(String email);
+
+    @EntityGraph(attributePaths = "paymentCards")
+    List<User> findAllByIdIn(Collection<Long> ids);
 }
@@ -8,6 +8,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface UserService {
 
@@ -31,6 +33,8 @@ public interface UserService {
 
     UserResponseDto findDtoByEmail(String email);
 
+    List<UserResponseDto> findDtosByIds(Collection<Long> ids);
+
     Page<UserResponseDto> findAll(String name,
                                   String surname,
                                   LocalDate birthDate,
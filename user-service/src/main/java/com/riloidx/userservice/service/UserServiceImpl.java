@@ -1,5 +1,6 @@
 package com.riloidx.userservice.service;
 
+import com.riloidx.userservice.cache.UserCache;
 import com.riloidx.userservice.dto.request.UserCreateDto;
 import com.riloidx.userservice.dto.request.UserUpdateDto;
 import com.riloidx.userservice.dto.response.UserResponseDto;
@@ -7,6 +8,7 @@ import com.riloidx.userservice.entity.User;
 import com.riloidx.userservice.exception.BadRequestException;
 import com.riloidx.userservice.exception.UserAlreadyExistsException;
 import com.riloidx.userservice.exception.UserNotFoundException;
+import com.riloidx.userservice.kafka.event.UserChangedEvent;
 import com.riloidx.userservice.mapper.UserMapper;
 import com.riloidx.userservice.repository.UserRepository;
 import com.riloidx.userservice.specification.UserSpecification;
@@ -17,6 +19,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -24,6 +27,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -33,6 +42,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepo;
     private final UserMapper mapper;
     private final ValidationUtil validationUtil;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -60,7 +71,8 @@ public class UserServiceImpl implements UserService {
 
         User savedUser = userRepo.save(curUser);
         log.info("User updated successfully with ID: {}", id);
-        
+        eventPublisher.publishEvent(new UserChangedEvent(id, "UPDATED"));
+
         return mapper.toDto(savedUser);
     }
 
@@ -78,6 +90,7 @@ public class UserServiceImpl implements UserService {
 
         userRepo.deleteById(id);
         log.info("User deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, "DELETED"));
     }
 
     @Override
@@ -90,6 +103,7 @@ public class UserServiceImpl implements UserService {
 
         curUser = userRepo.save(curUser);
         log.info("User status changed successfully for ID: {}", id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, "STATUS_CHANGED"));
 
         return mapper.toDto(curUser);
     }
@@ -124,6 +138,32 @@ public class UserServiceImpl implements UserService {
         return mapper.toDto(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findDtosByIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        log.debug("Finding {} users by IDs", uniqueIds.size());
+
+        Map<Long, UserResponseDto> found = userCache.getAll(uniqueIds);
+
+        List<Long> missingIds = uniqueIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            List<UserResponseDto> loaded = userRepo.findAllByIdIn(missingIds).stream()
+                    .map(mapper::toDto)
+                    .toList();
+            userCache.putAll(loaded);
+            loaded.forEach(dto -> found.put(dto.getId(), dto));
+            log.debug("Loaded {} users from database, {} not found", loaded.size(), missingIds.size() - loaded.size());
+        }
+
+        return uniqueIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public Page<UserResponseDto> findAll(String name,
                                          String surname,
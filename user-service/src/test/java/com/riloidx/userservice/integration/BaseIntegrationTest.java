@@ -7,9 +7,11 @@ import org.springframework.boot.testcontainers.service.connection.ServiceConnect
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -25,6 +27,12 @@ public abstract class BaseIntegrationTest {
     static final GenericContainer<?> redis = new GenericContainer<>("redis:7").
             withExposedPorts(6379);
 
+    @Container
+    @ServiceConnection
+    static final KafkaContainer kafka = new KafkaContainer(
+            DockerImageName.parse("confluentinc/cp-kafka:7.6.0")
+    );
+
     @Autowired
     protected MockMvc mockMvc;
 
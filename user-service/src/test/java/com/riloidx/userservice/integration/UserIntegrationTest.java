@@ -1,6 +1,7 @@
 package com.riloidx.userservice.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riloidx.userservice.dto.request.UserBatchRequestDto;
 import com.riloidx.userservice.dto.request.UserCreateDto;
 import com.riloidx.userservice.dto.request.UserUpdateDto;
 import com.riloidx.userservice.entity.User;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -113,6 +115,21 @@ class UserIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content[0].email", is(activeUser.getEmail())));
     }
 
+    @Test
+    void shouldGetUsersByIdsInRequestOrder() throws Exception {
+        UserBatchRequestDto batchDto = new UserBatchRequestDto(
+                List.of(inactiveUser.getId(), activeUser.getId(), Long.MAX_VALUE));
+
+        mockMvc.perform(post("/users/batch")
+                        .headers(createAuthHeaders())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].email", is(inactiveUser.getEmail())))
+                .andExpect(jsonPath("$[1].email", is(activeUser.getEmail())));
+    }
+
     @Test
     void shouldCreateUser() throws Exception {
         UserCreateDto createDto = UserCreateDto.builder()
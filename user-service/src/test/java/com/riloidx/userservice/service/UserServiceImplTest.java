@@ -1,5 +1,6 @@
 package com.riloidx.userservice.service;
 
+import com.riloidx.userservice.cache.UserCache;
 import com.riloidx.userservice.dto.request.UserCreateDto;
 import com.riloidx.userservice.dto.request.UserUpdateDto;
 import com.riloidx.userservice.dto.response.UserResponseDto;
@@ -7,6 +8,7 @@ import com.riloidx.userservice.entity.User;
 import com.riloidx.userservice.exception.BadRequestException;
 import com.riloidx.userservice.exception.UserAlreadyExistsException;
 import com.riloidx.userservice.exception.UserNotFoundException;
+import com.riloidx.userservice.kafka.event.UserChangedEvent;
 import com.riloidx.userservice.mapper.UserMapper;
 import com.riloidx.userservice.repository.UserRepository;
 import com.riloidx.userservice.util.ValidationUtil;
@@ -15,14 +17,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,6 +46,12 @@ class UserServiceImplTest {
     @Mock
     private ValidationUtil validationUtil;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Pageable pageable;
 
@@ -138,6 +150,7 @@ class UserServiceImplTest {
         verify(userRepo).save(currentUser);
         verify(mapper).updateEntityFromDto(updateDto, currentUser);
         verify(mapper).toDto(updatedUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId, "UPDATED"));
     }
 
     @Test
@@ -150,6 +163,7 @@ class UserServiceImplTest {
 
         verify(userRepo).findById(userId);
         verify(userRepo).deleteById(userId);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId, "DELETED"));
     }
 
     @Test
@@ -168,6 +182,7 @@ class UserServiceImplTest {
         assertEquals(dto, result);
         verify(userRepo).save(user);
         verify(mapper).toDto(updatedUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId, "STATUS_CHANGED"));
     }
 
     @Test
@@ -180,6 +195,7 @@ class UserServiceImplTest {
         assertThrows(BadRequestException.class, () -> service.changeStatus(userId, true));
         verify(userRepo).findById(userId);
         verifyNoMoreInteractions(userRepo, mapper);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -208,6 +224,35 @@ class UserServiceImplTest {
         verify(userRepo).findById(id);
     }
 
+    @Test
+    void findDtosByIdsShouldServeCachedUsersAndLoadOnlyMisses() {
+        UserResponseDto cached = UserResponseDto.builder().id(1L).name("Cached").build();
+        UserResponseDto loadedDto = UserResponseDto.builder().id(2L).name("Loaded").build();
+        User loaded = User.builder().id(2L).name("Loaded").build();
+
+        when(userCache.getAll(Set.of(1L, 2L, 3L))).thenReturn(new HashMap<>(Map.of(1L, cached)));
+        when(userRepo.findAllByIdIn(List.of(2L, 3L))).thenReturn(List.of(loaded));
+        when(mapper.toDto(loaded)).thenReturn(loadedDto);
+
+        List<UserResponseDto> result = service.findDtosByIds(List.of(1L, 2L, 3L, 1L));
+
+        assertEquals(List.of(cached, loadedDto), result);
+        verify(userRepo).findAllByIdIn(List.of(2L, 3L));
+        verify(userCache).putAll(List.of(loadedDto));
+    }
+
+    @Test
+    void findDtosByIdsShouldSkipDatabaseWhenAllCached() {
+        UserResponseDto cached = UserResponseDto.builder().id(1L).name("Cached").build();
+
+        when(userCache.getAll(Set.of(1L))).thenReturn(new HashMap<>(Map.of(1L, cached)));
+
+        List<UserResponseDto> result = service.findDtosByIds(List.of(1L));
+
+        assertEquals(List.of(cached), result);
+        verifyNoInteractions(userRepo);
+    }
+
     @Test
     void findAllShouldReturnEmptyPageWhenAllParametersNull() {
         Page<User> usersPage = new PageImpl<>(List.of());